@@ -0,0 +1,61 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package benchmark;
+
+import model.Board;
+import model.Player;
+import model.PositionId;
+
+import static util.CommonConstants.PLAYER_1_SIDE;
+
+/**
+ * Representative positions the benchmarks run against, stored as position IDs with Player 1 on roll.
+ */
+public enum BenchmarkPosition {
+    OPENING("4HPwATDgc/ABMA"),
+    CONTACT("zM7gBDDMnZEDIA"),
+    RACE("5tycAQDOObMBAA"),
+    BEAR_OFF("c7sBAOB2NgAAAA"),
+    MANY_ON_BAR("mBk8AHbCc3AAdA");
+
+    private final String positionId;
+
+    BenchmarkPosition(String positionId) {
+        this.positionId = positionId;
+    }
+
+    /**
+     * Builds a fresh board holding this position.
+     *
+     * @param player1 the first player.
+     * @param player2 the second player.
+     * @return the board.
+     */
+    public Board createBoard(Player player1, Player player2) {
+        Board board = new Board(player1, player2);
+        PositionId.decode(positionId, board, PLAYER_1_SIDE);
+        return board;
+    }
+
+    /**
+     * Returns the position ID of this position.
+     *
+     * @return the position ID.
+     */
+    public String getPositionId() {
+        return positionId;
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package benchmark;
+
+import model.MoveList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the single-board operations the engine runs at every node.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+    private final MoveList moves = new MoveList();
+
+    @Benchmark
+    public List<String> legalMovesAsStrings(BoardState state) {
+        return state.board.getLegalMoves(state.player1, state.rolls);
+    }
+
+    @Benchmark
+    public int generateMoves(BoardState state) {
+        state.board.generateMoves(state.side, state.dice, moves);
+        return moves.size();
+    }
+
+    @Benchmark
+    public int applyAndUndo(BoardState state) {
+        state.board.generateMoves(state.side, state.dice, moves);
+        int tokens = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int token = state.board.apply(moves.get(i));
+            state.board.undo(token);
+            tokens ^= token;
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public boolean canBearOff(BoardState state) {
+        return state.board.canBearOff(state.side);
+    }
+
+    @Benchmark
+    public int pipCount(BoardState state) {
+        return state.board.getPipCount(state.side);
+    }
+
+    @Benchmark
+    public long hash(BoardState state) {
+        return state.board.hash();
+    }
+}
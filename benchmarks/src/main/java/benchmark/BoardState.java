@@ -0,0 +1,58 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package benchmark;
+
+import model.Board;
+import model.Player;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+import static util.CommonConstants.PLAYER_1_SIDE;
+
+/**
+ * Per-thread benchmark fixture: one board per position in the corpus, rolled with each dice set.
+ */
+@State(Scope.Thread)
+public class BoardState {
+    @Param({"OPENING", "CONTACT", "RACE", "BEAR_OFF", "MANY_ON_BAR"})
+    public BenchmarkPosition position;
+
+    @Param({"31", "64", "52", "11", "66"})
+    public String roll;
+
+    public final Player player1 = new Player("Player 1");
+    public final Player player2 = new Player("Player 2");
+    public final int side = PLAYER_1_SIDE;
+    public Board board;
+    public int die1;
+    public int die2;
+    public int[] dice;
+    public List<Integer> rolls;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = position.createBoard(player1, player2);
+        die1 = roll.charAt(0) - '0';
+        die2 = roll.charAt(1) - '0';
+        dice = die1 == die2 ? new int[]{die1, die1, die1, die1} : new int[]{die1, die2};
+        rolls = die1 == die2 ? List.of(die1, die1, die1, die1) : List.of(die1, die2);
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package benchmark;
+
+import model.BufferedDiceSource;
+import model.DiceSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the dice sources, run on several threads at once to expose contention on a shared
+ * {@link Random}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class DiceBenchmark {
+
+    /**
+     * One {@link Random} shared by all benchmark threads, as the game used before dice sources.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedState {
+        final Random random = new Random();
+    }
+
+    /**
+     * Sources owned by a single benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        final DiceSource splittable = DiceSource.of(new SplittableRandom());
+        final DiceSource buffered = new BufferedDiceSource(new SplittableRandom());
+        final DiceSource threadLocal = DiceSource.threadLocal();
+    }
+
+    @Benchmark
+    public int sharedRandom(SharedState state) {
+        return state.random.nextInt(6) + 1;
+    }
+
+    @Benchmark
+    public int splittableRandom(ThreadState state) {
+        return state.splittable.roll();
+    }
+
+    @Benchmark
+    public int buffered(ThreadState state) {
+        return state.buffered.roll();
+    }
+
+    @Benchmark
+    public int threadLocal(ThreadState state) {
+        return state.threadLocal.roll();
+    }
+}
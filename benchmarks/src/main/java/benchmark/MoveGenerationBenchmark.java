@@ -0,0 +1,69 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package benchmark;
+
+import model.Board;
+import model.Play;
+import model.PlayGenerator;
+import model.PositionId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of full-turn play generation and of position ID encoding and decoding.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveGenerationBenchmark {
+    private final PlayGenerator generator = new PlayGenerator();
+    private Board scratch;
+
+    @Setup
+    public void setUp(BoardState state) {
+        scratch = new Board(state.player1, state.player2);
+    }
+
+    @Benchmark
+    public List<Play> generatePlays(BoardState state) {
+        return generator.generate(state.board, state.side, state.die1, state.die2);
+    }
+
+    @Benchmark
+    public String encodePositionId(BoardState state) {
+        return PositionId.encode(state.board, state.side);
+    }
+
+    @Benchmark
+    public long decodePositionId(BoardState state) {
+        PositionId.decode(state.position.getPositionId(), scratch, state.side);
+        return scratch.hash();
+    }
+}
@@ -208,6 +208,7 @@ public class GameController {
         for (CommandType type : CommandType.values()) {
             System.out.println("- " + type.name());
         }
+        System.out.println("Type HINT when choosing a move to see the suggested play, or when answering a double to see the suggested answer.");
 
     }
 
@@ -0,0 +1,27 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package enums;
+
+/**
+ * The correct cube action for the side on roll, including how the opponent should answer a double.
+ */
+public enum CubeAction {
+    NO_DOUBLE,
+    DOUBLE_TAKE,
+    DOUBLE_PASS,
+    TOO_GOOD_PASS
+}
@@ -0,0 +1,26 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package enums;
+
+/**
+ * Who may double next, seen from the side on roll.
+ */
+public enum CubeOwnership {
+    CENTERED,
+    OWNED,
+    OPPONENT_OWNED
+}
@@ -0,0 +1,112 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+/**
+ * Evaluator that scores pure bear-off races from a {@link OneSidedBearOff} database and leaves every other position
+ * to another evaluator. Races short enough for an optional {@link TwoSidedBearOff} database are scored from it.
+ * <p>
+ * Once both sides can bear off, the sides no longer interact, so the chance of winning follows from the two
+ * distributions of turns to finish: the side on roll wins on its n-th turn if the opponent needs n turns or more.
+ * Gammons follow the same way from the turns the loser needs to take off a first checker.
+ */
+public class BearOffEvaluator implements Evaluator {
+    private final OneSidedBearOff database;
+    private final TwoSidedBearOff twoSided;
+    private final Evaluator fallback;
+    private final float[] ownTurns = new float[OneSidedBearOff.MAX_TURNS];
+    private final float[] opponentTurns = new float[OneSidedBearOff.MAX_TURNS];
+    private final float[] firstOff = new float[OneSidedBearOff.MAX_TURNS];
+
+    /**
+     * Creates an evaluator.
+     *
+     * @param database the one-sided bear-off database; may be shared.
+     * @param fallback the evaluator for positions that are not pure bear-offs.
+     */
+    public BearOffEvaluator(OneSidedBearOff database, Evaluator fallback) {
+        this(database, null, fallback);
+    }
+
+    /**
+     * Creates an evaluator that also uses a two-sided database.
+     *
+     * @param database the one-sided bear-off database; may be shared.
+     * @param twoSided the two-sided bear-off database, or null; may be shared.
+     * @param fallback the evaluator for positions that are not pure bear-offs.
+     */
+    public BearOffEvaluator(OneSidedBearOff database, TwoSidedBearOff twoSided, Evaluator fallback) {
+        this.database = database;
+        this.twoSided = twoSided;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void evaluate(Board board, int side, float[] output) {
+        int opponent = 1 - side;
+        if (!board.canBearOff(side) || !board.canBearOff(opponent)) {
+            fallback.evaluate(board, side, output);
+            return;
+        }
+        if (twoSided != null && TwoSidedBearOff.covers(board)) {
+            output[WIN] = (1 + twoSided.getCubelessEquity(TwoSidedBearOff.index(board, side))) / 2;
+            output[WIN_GAMMON] = 0;
+            output[WIN_BACKGAMMON] = 0;
+            output[LOSE_GAMMON] = 0;
+            output[LOSE_BACKGAMMON] = 0;
+            return;
+        }
+        int own = OneSidedBearOff.index(board, side);
+        int other = OneSidedBearOff.index(board, opponent);
+        database.getTurnDistribution(own, ownTurns);
+        database.getTurnDistribution(other, opponentTurns);
+
+        output[WIN] = winBefore(ownTurns, opponentTurns, 0);
+        output[WIN_GAMMON] = 0;
+        output[LOSE_GAMMON] = 0;
+        if (board.getBearOffCount(opponent) == 0) {
+            database.getFirstOffDistribution(other, firstOff);
+            output[WIN_GAMMON] = winBefore(ownTurns, firstOff, 0);
+        }
+        if (board.getBearOffCount(side) == 0) {
+            database.getFirstOffDistribution(own, firstOff);
+            output[LOSE_GAMMON] = winBefore(opponentTurns, firstOff, 1);
+        }
+        output[WIN_BACKGAMMON] = 0;
+        output[LOSE_BACKGAMMON] = 0;
+    }
+
+    /**
+     * Computes the chance that one side finishes before the other does.
+     *
+     * @param first  the distribution of turns the first side needs.
+     * @param second the distribution of turns the other side needs.
+     * @param lead   0 if the first side rolls first, 1 if the other side does.
+     * @return the probability that the first side finishes first.
+     */
+    private static float winBefore(float[] first, float[] second, int lead) {
+        float notFinished = 1;
+        float win = 0;
+        for (int turn = 0; turn < first.length; turn++) {
+            if (turn + lead > 0) {
+                notFinished -= second[turn + lead - 1];
+            }
+            win += first[turn] * Math.max(notFinished, 0);
+        }
+        return Math.min(win, 1);
+    }
+}
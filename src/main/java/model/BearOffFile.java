@@ -0,0 +1,96 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * File handling shared by the bear-off databases: a header of four ints identifying the table, followed by
+ * fixed-size records, mapped into memory for reading.
+ */
+final class BearOffFile {
+    static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    /**
+     * Prevents instantiation.
+     */
+    private BearOffFile() {
+    }
+
+    /**
+     * Allocates an in-memory table and writes its header.
+     *
+     * @param header the four header values.
+     * @param size   the total size of the table in bytes, including the header.
+     * @return the buffer, positioned after the header.
+     */
+    static ByteBuffer allocate(int[] header, int size) {
+        ByteBuffer data = ByteBuffer.allocate(size);
+        for (int value : header) {
+            data.putInt(value);
+        }
+        return data;
+    }
+
+    /**
+     * Maps a table file into memory after checking its size and header.
+     *
+     * @param file   the file.
+     * @param header the expected header values.
+     * @param size   the expected file size in bytes.
+     * @param kind   the name of the table, for error messages.
+     * @return the read-only mapped buffer.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the size or header do not match.
+     */
+    static ByteBuffer map(Path file, int[] header, long size, String kind) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != size) {
+                throw new IllegalArgumentException("Not a " + kind + ": " + file);
+            }
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            for (int i = 0; i < header.length; i++) {
+                if (data.getInt(i * Integer.BYTES) != header[i]) {
+                    throw new IllegalArgumentException("Not a " + kind + ": " + file);
+                }
+            }
+            return data;
+        }
+    }
+
+    /**
+     * Writes a whole table to a file.
+     *
+     * @param file the file to create or replace.
+     * @param data the table, including its header.
+     * @throws IOException if the file cannot be written.
+     */
+    static void write(Path file, ByteBuffer data) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer contents = data.duplicate();
+            contents.clear();
+            while (contents.hasRemaining()) {
+                channel.write(contents);
+            }
+        }
+    }
+}
@@ -15,24 +15,97 @@
 
 package model;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
 
 import static util.CommonConstants.*;
 
 /**
  * Represents the Backgammon board, including player positions, bars, and bear-off areas.
+ * <p>
+ * The position is held as signed checker counts: {@code points[1..24]} are positive for Player 1 and
+ * negative for Player 2, {@code points[0]} holds Player 1's bar and {@code points[25]} holds Player 2's bar
+ * (the points each side enters from). Borne-off checkers are counted per side. The map and list views
+ * returned by {@link #getPositions()}, {@link #getBarForPlayer(Player)} and {@link #getBearOffForPlayer(Player)}
+ * are live views over these counts.
+ * <p>
+ * Every write to the counts also updates a 64-bit Zobrist key of the position and both sides' pip counts; see
+ * {@link #hash()} and {@link #getPipCount(int)}.
+ * <p>
+ * Move generation works on bitmasks over the 26 slots, kept up to date on the same writes: the slots each side
+ * occupies and the points each side has made. Together with static tables giving the landing slot for every
+ * (side, slot, die), this turns the legality checks of {@link #getMoveTarget(int, int, int)} into lookups and
+ * bit tests.
  */
 public class Board {
-    private final Map<Integer, List<Checker>> positions = new HashMap<>();
+    /**
+     * Returned by {@link #getMoveTarget(int, int, int)} when a checker cannot be moved.
+     */
+    public static final int ILLEGAL_TARGET = -1;
+
+    private static final int[] DIRECTION = {PLAYER_1_MOVE_DIRECTION, PLAYER_2_MOVE_DIRECTION};
+    private static final int SLOTS = NUMBER_OF_POINTS + 2;
+    private static final int DIE_VALUES = MAXIMUM_DICE_VALUE + 1;
+    private static final int[][] TARGETS = new int[2][SLOTS * DIE_VALUES];
+    private static final boolean[][] OVERSHOOTS = new boolean[2][SLOTS * DIE_VALUES];
+    private static final int[][] BEHIND_MASKS = new int[2][SLOTS];
+    private static final int[] HOME_MASKS = {
+            pointMask(PLAYER_1_HOME_START, PLAYER_1_HOME_END), pointMask(PLAYER_2_HOME_START, PLAYER_2_HOME_END)};
+
+    private static final int MAX_STACK = 2 * CHECKERS_PER_PLAYER;
+    private static final long ZOBRIST_SEED = 0x9E3779B97F4A7C15L;
+    private static final long[][] SLOT_KEYS = new long[NUMBER_OF_POINTS + 2][2 * MAX_STACK + 1];
+    private static final long[][] BEAR_OFF_KEYS = new long[2][MAX_STACK + 1];
+
+    static {
+        for (int side = PLAYER_1_SIDE; side <= PLAYER_2_SIDE; side++) {
+            int off = Move.offSlot(side);
+            for (int from = 0; from < SLOTS; from++) {
+                BEHIND_MASKS[side][from] = side == PLAYER_1_SIDE ? pointMask(0, from - 1) : pointMask(from + 1, SLOTS - 1);
+                for (int die = 1; die <= MAXIMUM_DICE_VALUE; die++) {
+                    int to = from + die * DIRECTION[side];
+                    boolean onBoard = to >= 1 && to <= NUMBER_OF_POINTS;
+                    TARGETS[side][from * DIE_VALUES + die] = onBoard ? to : off;
+                    OVERSHOOTS[side][from * DIE_VALUES + die] = !onBoard && to != off;
+                }
+            }
+        }
+
+        SplittableRandom random = new SplittableRandom(ZOBRIST_SEED);
+        for (long[] keys : SLOT_KEYS) {
+            fillKeys(keys, random);
+            keys[MAX_STACK] = 0;
+        }
+        for (long[] keys : BEAR_OFF_KEYS) {
+            fillKeys(keys, random);
+            keys[0] = 0;
+        }
+    }
+
+    private final int[] points = new int[NUMBER_OF_POINTS + 2];
+    private final int[] bearOff = new int[2];
+    private final int[] pips = new int[2];
+    private final int[] occupied = new int[2];
+    private final int[] made = new int[2];
     private final Player player1;
     private final Player player2;
-    private final List<Checker> barPlayer1 = new ArrayList<>();
-    private final List<Checker> barPlayer2 = new ArrayList<>();
-    private final List<Checker> bearOffPlayer1 = new ArrayList<>();
-    private final List<Checker> bearOffPlayer2 = new ArrayList<>();
+    private final Checker[] checkers;
+    private long hash;
+
+    private final PositionsView positions = new PositionsView();
+    private final PointView[] pointViews = new PointView[NUMBER_OF_POINTS + 1];
+    private final List<Checker> barPlayer1 = new BarView(PLAYER_1_SIDE);
+    private final List<Checker> barPlayer2 = new BarView(PLAYER_2_SIDE);
+    private final List<Checker> bearOffPlayer1 = new BearOffView(PLAYER_1_SIDE);
+    private final List<Checker> bearOffPlayer2 = new BearOffView(PLAYER_2_SIDE);
 
     /**
      * Creates a new Backgammon board with two players and initializes the starting positions.
@@ -43,9 +116,23 @@ public class Board {
     public Board(Player player1, Player player2) {
         this.player1 = player1;
         this.player2 = player2;
+        this.checkers = new Checker[]{new Checker("White", player1), new Checker("Black", player2)};
+        for (int point = 1; point <= NUMBER_OF_POINTS; point++) {
+            pointViews[point] = new PointView(point);
+        }
         initializeBoard();
     }
 
+    /**
+     * Creates a copy of a board with the same players and position. The copy can be changed independently.
+     *
+     * @param other the board to copy.
+     */
+    public Board(Board other) {
+        this(other.player1, other.player2);
+        copyFrom(other);
+    }
+
     /**
      * Displays the current state of the board in a formatted manner.
      */
@@ -67,15 +154,14 @@ public class Board {
         for (int row = 0; row < maxCheckers; row++) {
             System.out.print("|");
             for (int point = 13; point <= 24; point++) {
-                List<Checker> checkers = positions.getOrDefault(point, new ArrayList<>());
-                if (row < checkers.size()) {
-                    System.out.printf("%3s", checkers.get(row).getOwner() == player1 ? "O" : "X");
+                if (row < Math.abs(points[point])) {
+                    System.out.printf("%3s", points[point] > 0 ? "O" : "X");
                 } else {
                     System.out.print("   ");
                 }
                 System.out.print(" |");
             }
-            if (row < bearOffPlayer1.size()) {
+            if (row < bearOff[PLAYER_1_SIDE]) {
                 System.out.print("  O  |");
             } else {
                 System.out.print("     |");
@@ -85,9 +171,9 @@ public class Board {
 
         System.out.println("------------------------------- BAR -------------------------------");
         System.out.print(player1.getName()+" Bar: ");
-        barPlayer1.forEach(c -> System.out.print("O "));
+        System.out.print("O ".repeat(getBarCount(PLAYER_1_SIDE)));
         System.out.print("\n"+player2.getName()+" Bar: ");
-        barPlayer2.forEach(c -> System.out.print("X "));
+        System.out.print("X ".repeat(getBarCount(PLAYER_2_SIDE)));
         System.out.println();
         System.out.println("------------------------------- BAR -------------------------------");
 
@@ -103,16 +189,15 @@ public class Board {
         for (int row = 0; row < maxCheckers; row++) {
             System.out.print("|");
             for (int point = 12; point >= 1; point--) {
-                List<Checker> checkers = positions.getOrDefault(point, new ArrayList<>());
-                if (row > maxCheckers-checkers.size()-1) {
-                    System.out.printf("%3s", checkers.get(maxCheckers-1-row).getOwner() == player1 ? "O" : "X");
+                if (row > maxCheckers - Math.abs(points[point]) - 1) {
+                    System.out.printf("%3s", points[point] > 0 ? "O" : "X");
                 } else {
                     System.out.print("   ");
                 }
                 System.out.print(" |");
             }
 
-            if (row < bearOffPlayer2.size()) {
+            if (row < bearOff[PLAYER_2_SIDE]) {
                 System.out.print("  X  |");
             } else {
                 System.out.print("     |");
@@ -132,10 +217,8 @@ public class Board {
      */
     private int getMaxCheckersInPosition() {
         int max = 0;
-        for (List<Checker> checkers : positions.values()) {
-            if (checkers.size() > max) {
-                max = checkers.size();
-            }
+        for (int point = 1; point <= NUMBER_OF_POINTS; point++) {
+            max = Math.max(max, Math.abs(points[point]));
         }
         return max;
     }
@@ -144,29 +227,77 @@ public class Board {
      * Initializes Board by placing checkers for each player
      */
     private void initializeBoard() {
-        positions.put(1, createCheckers("White", 2, player1));
-        positions.put(6, createCheckers("Black", 5, player2));
-        positions.put(8, createCheckers("Black", 3, player2));
-        positions.put(12, createCheckers("White", 5, player1));
-        positions.put(13, createCheckers("Black", 5, player2));
-        positions.put(17, createCheckers("White", 3, player1));
-        positions.put(19, createCheckers("White", 5, player1));
-        positions.put(24, createCheckers("Black", 2, player2));
+        setSlot(1, 2);
+        setSlot(6, -5);
+        setSlot(8, -3);
+        setSlot(12, 5);
+        setSlot(13, -5);
+        setSlot(17, 3);
+        setSlot(19, 5);
+        setSlot(24, -2);
     }
 
     /**
-     * Creates checkers for the player
-     * @param color Color of the checker
-     * @param count Count of checkers that need to be created
-     * @param owner Player who will own the checkers
-     * @return Return the list of checkers based on the given conditions
+     * Returns the side index ({@code PLAYER_1_SIDE} or {@code PLAYER_2_SIDE}) of the given player.
+     *
+     * @param player the player to look up.
+     * @return the side index of the player.
      */
-    private List<Checker> createCheckers(String color, int count, Player owner) {
-        List<Checker> checkers = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            checkers.add(new Checker(color, owner));
-        }
-        return checkers;
+    public int sideOf(Player player) {
+        return player == player1 || (player != player2 && player1.equals(player)) ? PLAYER_1_SIDE : PLAYER_2_SIDE;
+    }
+
+    /**
+     * Returns the player playing the given side.
+     *
+     * @param side the side index.
+     * @return the player on that side.
+     */
+    public Player getPlayer(int side) {
+        return side == PLAYER_1_SIDE ? player1 : player2;
+    }
+
+    /**
+     * Returns the number of checkers the given side has on a board point.
+     *
+     * @param side     the side index.
+     * @param position the board position (1-24).
+     * @return the number of checkers of that side on the position.
+     */
+    public int getCheckerCount(int side, int position) {
+        int count = points[position];
+        return side == PLAYER_1_SIDE ? Math.max(count, 0) : Math.max(-count, 0);
+    }
+
+    /**
+     * Returns the number of checkers the given side has on the bar.
+     *
+     * @param side the side index.
+     * @return the number of checkers on the bar.
+     */
+    public int getBarCount(int side) {
+        return getCheckerCount(side, Move.barSlot(side));
+    }
+
+    /**
+     * Returns the number of checkers the given side has borne off.
+     *
+     * @param side the side index.
+     * @return the number of borne-off checkers.
+     */
+    public int getBearOffCount(int side) {
+        return bearOff[side];
+    }
+
+    /**
+     * Returns the pip count of the given side: the total number of pips its checkers, including any on the bar,
+     * still have to travel to bear off.
+     *
+     * @param side the side index.
+     * @return the pip count.
+     */
+    public int getPipCount(int side) {
+        return pips[side];
     }
 
     /**
@@ -177,76 +308,129 @@ public class Board {
      * @return a list of legal moves in string format.
      */
     public List<String> getLegalMoves(Player player, List<Integer> rolls) {
-        List<String> legalMoves = new ArrayList<>();
-        int direction = (player == player1) ? 1 : -1;
-        boolean canBearOff = canBearOff(player);
-
-        for (int position : positions.keySet()) {
-            List<Checker> checkers = positions.get(position);
-            if (!checkers.isEmpty() && checkers.get(0).getOwner().equals(player)) {
-                for (int roll : rolls) {
-                    int targetPosition = position + roll * direction;
-
-                    if (canBearOff && isBearOffPosition(player, targetPosition)) {
-                        legalMoves.add(position + " -> OFF");
-                    } else if (isLegalMove(player, position, targetPosition)) {
-                        legalMoves.add(position + " -> " + targetPosition);
-                    }
-                }
-            }
+        MoveList moves = new MoveList();
+        generateMoves(sideOf(player), rolls.stream().mapToInt(Integer::intValue).toArray(), moves);
+
+        List<String> legalMoves = new ArrayList<>(moves.size());
+        for (int i = 0; i < moves.size(); i++) {
+            legalMoves.add(Move.format(moves.get(i)));
         }
         return legalMoves;
     }
 
+    /**
+     * Fills the given list with every legal single-checker move for the remaining dice, ordered by source slot.
+     * Moves between the same slots are listed once, using the smallest die that makes them.
+     *
+     * @param side  the side to move.
+     * @param dice  the remaining dice; entries of 0 are treated as already used.
+     * @param moves the list to fill; it is cleared first.
+     */
+    public void generateMoves(int side, int[] dice, MoveList moves) {
+        moves.clear();
+        int bar = Move.barSlot(side);
+        if (getBarCount(side) > 0) {
+            addMovesFrom(side, bar, dice, moves);
+            return;
+        }
+        for (int from = 1; from <= NUMBER_OF_POINTS; from++) {
+            if (getCheckerCount(side, from) > 0) {
+                addMovesFrom(side, from, dice, moves);
+            }
+        }
+    }
+
+    /**
+     * Adds the legal moves of a single checker for each remaining die.
+     *
+     * @param side  the side to move.
+     * @param from  the slot the checker leaves.
+     * @param dice  the remaining dice; entries of 0 are skipped.
+     * @param moves the list receiving the moves.
+     */
+    private void addMovesFrom(int side, int from, int[] dice, MoveList moves) {
+        for (int die : dice) {
+            if (die == 0) {
+                continue;
+            }
+            int to = getMoveTarget(side, from, die);
+            if (to != ILLEGAL_TARGET) {
+                moves.addUnique(Move.of(side, from, to, die));
+            }
+        }
+    }
+
     /**
      * Checks if a player is eligible to bear off their checkers.
      * A player can bear off only when all their checkers are in the home quadrant.
      *
-     * @param player the player being checked for bear-off eligibility.
+     * @param side the side being checked for bear-off eligibility.
      * @return true if the player can bear off, false otherwise.
      */
-    private boolean canBearOff(Player player) {
-        int homeStart = (player == player1) ? PLAYER_1_HOME_START : PLAYER_2_HOME_START;
-        int homeEnd = (player == player1) ? PLAYER_1_HOME_END : PLAYER_2_HOME_END;
+    public boolean canBearOff(int side) {
+        return (occupied[side] & ~HOME_MASKS[side]) == 0;
+    }
 
-        for (int position : positions.keySet()) {
-            if (position < homeStart || position > homeEnd) {
-                List<Checker> checkers = positions.get(position);
-                if (!checkers.isEmpty() && checkers.get(0).getOwner().equals(player)) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    /**
+     * Checks whether a side has checkers in the home board of the given side.
+     *
+     * @param side     the side whose checkers are looked for.
+     * @param homeSide the side owning the home board.
+     * @return true if at least one checker is found.
+     */
+    public boolean hasCheckersInHomeBoard(int side, int homeSide) {
+        return (occupied[side] & HOME_MASKS[homeSide]) != 0;
     }
 
     /**
-     * Determines whether a move is legal for the given player.
+     * Returns where a checker of the given side lands when moved from a slot with a single die, following the full
+     * rules: checkers on the bar must enter first, a point holding two or more opposing checkers is blocked, and
+     * bearing off with a larger die than needed is only allowed from the rearmost occupied point.
      *
-     * @param player       the player attempting the move.
-     * @param fromPosition the starting position of the move.
-     * @param toPosition   the target position of the move.
-     * @return true if the move is legal, false otherwise.
+     * @param side the side moving.
+     * @param from the slot the checker leaves (a point, or the side's bar slot).
+     * @param die  the die value used.
+     * @return the target slot (see {@link Move}), or {@link #ILLEGAL_TARGET} if the step is not legal.
      */
-    private boolean isLegalMove(Player player, int fromPosition, int toPosition) {
-        if (fromPosition < 1 || fromPosition > 24) {
-            return false;
+    public int getMoveTarget(int side, int from, int die) {
+        int own = occupied[side];
+        int barBit = 1 << Move.barSlot(side);
+        if ((own & (1 << from)) == 0 || ((own & barBit) != 0 && (1 << from) != barBit)) {
+            return ILLEGAL_TARGET;
         }
 
-        if (toPosition < 1 || toPosition > 24) {
-            return false;
+        int step = from * DIE_VALUES + die;
+        int to = TARGETS[side][step];
+        if (to != Move.offSlot(side)) {
+            return (made[1 - side] & (1 << to)) == 0 ? to : ILLEGAL_TARGET;
         }
-
-        List<Checker> fromPositionCheckers = positions.getOrDefault(fromPosition, new ArrayList<>());
-        List<Checker> toPositionCheckers = positions.getOrDefault(toPosition, new ArrayList<>());
-
-        if (fromPositionCheckers.isEmpty() || !fromPositionCheckers.get(0).getOwner().equals(player)) {
-            return false;
+        if ((own & ~HOME_MASKS[side]) != 0 || (OVERSHOOTS[side][step] && (own & BEHIND_MASKS[side][from]) != 0)) {
+            return ILLEGAL_TARGET;
         }
+        return to;
+    }
 
-        return toPositionCheckers.isEmpty() ||
-                toPositionCheckers.get(0).getOwner().equals(player) ||
-                (toPositionCheckers.size() == 1 && !toPositionCheckers.get(0).getOwner().equals(player));
+    /**
+     * Checks whether the two sides can still hit or block each other: some checker of one side, counting the bar,
+     * is behind some checker of the other. Once contact is broken the game is a pure race.
+     *
+     * @return true while the sides are in contact.
+     */
+    public boolean hasContact() {
+        int player1 = occupied[PLAYER_1_SIDE];
+        int player2 = occupied[PLAYER_2_SIDE];
+        return player1 != 0 && player2 != 0
+                && Integer.numberOfTrailingZeros(player1) < Integer.SIZE - 1 - Integer.numberOfLeadingZeros(player2);
+    }
+
+    /**
+     * Returns the points the given side cannot land on: those holding two or more opposing checkers.
+     *
+     * @param side the side moving.
+     * @return a bitmask with bit {@code p} set when point {@code p} is blocked.
+     */
+    public int getBlockedPoints(int side) {
+        return made[1 - side];
     }
 
     /**
@@ -257,34 +441,18 @@ public class Board {
      * @param toPosition   the destination position of the checker.
      */
     public void makeMove(Player player, int fromPosition, int toPosition) {
-        List<Checker> fromCheckers = positions.get(fromPosition);
-        if (fromCheckers == null || fromCheckers.isEmpty()) {
+        int side = sideOf(player);
+        if (fromPosition < 1 || fromPosition > NUMBER_OF_POINTS || getCheckerCount(side, fromPosition) == 0) {
             System.out.println("Error: No checkers to move from this position.");
             return;
         }
 
-        List<Checker> toCheckers = positions.getOrDefault(toPosition, new ArrayList<>());
-        Checker movingChecker = fromCheckers.remove(fromCheckers.size() - 1);
-        if (fromCheckers.isEmpty()) {
-            positions.remove(fromPosition);
-        }
-
-        handleHitAndUpdatePosition(player, movingChecker, toCheckers, toPosition);
-    }
-
-    /**
-     * Checks if a specified position corresponds to a bear-off position for the given player.
-     *
-     * @param player   the player attempting to bear off.
-     * @param position the position being checked.
-     * @return true if the position is a bear-off position for the player, false otherwise.
-     */
-    private boolean isBearOffPosition(Player player, int position) {
-        return (player == player1 && position >= PLAYER_1_BEAR_OFF_POSITION) || (player == player2 && position <= PLAYER_2_BEAR_OFF_POSITION);
+        apply(Move.of(side, fromPosition, toPosition));
     }
 
     /**
      * Retrieves the map of all board positions and their respective checkers.
+     * Only occupied positions are present in the map; changes made through the map write through to the board.
      *
      * @return a map of positions to checkers.
      */
@@ -299,7 +467,7 @@ public class Board {
      * @return the list of checkers in the player's bar.
      */
     public List<Checker> getBarForPlayer(Player player) {
-        return player == player1 ? barPlayer1 : barPlayer2;
+        return sideOf(player) == PLAYER_1_SIDE ? barPlayer1 : barPlayer2;
     }
 
     /**
@@ -309,7 +477,7 @@ public class Board {
      * @return the list of checkers in the player's bear-off area.
      */
     public List<Checker> getBearOffForPlayer(Player player) {
-        return player == player1 ? bearOffPlayer1 : bearOffPlayer2;
+        return sideOf(player) == PLAYER_1_SIDE ? bearOffPlayer1 : bearOffPlayer2;
     }
 
     /**
@@ -320,15 +488,7 @@ public class Board {
      * @return true if the player can legally enter a checker to the target position, false otherwise.
      */
     public boolean canEnterFromBar(Player player, int toPosition) {
-        List<Checker> targetPositionCheckers = positions.getOrDefault(toPosition, new ArrayList<>());
-
-        if (targetPositionCheckers.isEmpty()) {
-            return true;
-        } else if (targetPositionCheckers.get(0).getOwner().equals(player)) {
-            return true;
-        } else {
-            return targetPositionCheckers.size() == 1;
-        }
+        return (getBlockedPoints(sideOf(player)) & (1 << toPosition)) == 0;
     }
 
     /**
@@ -338,64 +498,416 @@ public class Board {
      * @param toPosition  the target position where the checker will be placed.
      */
     public void enterFromBar(Player player, int toPosition) {
-        List<Checker> bar = (player == player1) ? barPlayer1 : barPlayer2;
-        if (!bar.isEmpty()) {
-            Checker checker = bar.remove(bar.size() - 1);
-            List<Checker> toPositionCheckers = positions.getOrDefault(toPosition, new ArrayList<>());
+        int side = sideOf(player);
+        if (getBarCount(side) > 0) {
+            apply(Move.of(side, Move.barSlot(side), toPosition));
+        }
+    }
+
+    /**
+     * Handles the process of bearing off a checker for a player.
+     *
+     * @param player       the player bearing off a checker.
+     * @param fromPosition the position from which the checker is being borne off.
+     */
+    public void bearOffChecker(Player player, int fromPosition) {
+        int side = sideOf(player);
+        if (fromPosition < 1 || fromPosition > NUMBER_OF_POINTS || getCheckerCount(side, fromPosition) == 0) {
+            System.out.println("Error: No checkers to bear off from this position.");
+            return;
+        }
+
+        apply(Move.of(side, fromPosition, Move.offSlot(side)));
+    }
+
+    /**
+     * Plays a single checker move in place and returns a token that {@link #undo(int)} accepts to take it back.
+     * The move is assumed to be legal; hitting an opposing blot sends it to the bar and is recorded in the token.
+     * Neither call allocates, so search code can walk a game tree on one board.
+     *
+     * @param move the packed move (see {@link Move}).
+     * @return the undo token for the move.
+     */
+    public int apply(int move) {
+        int side = Move.side(move);
+        int to = Move.to(move);
+        removeChecker(side, Move.from(move));
+
+        if (to == Move.offSlot(side)) {
+            setBearOff(side, bearOff[side] + 1);
+            return move;
+        }
 
-            handleHitAndUpdatePosition(player, checker, toPositionCheckers, toPosition);
+        int opponent = 1 - side;
+        if (getCheckerCount(opponent, to) > 0) {
+            setCount(opponent, to, 0);
+            setCount(opponent, Move.barSlot(opponent), getBarCount(opponent) + 1);
+            setCount(side, to, 1);
+            return Move.withHit(move);
         }
+
+        setCount(side, to, getCheckerCount(side, to) + 1);
+        return move;
     }
 
     /**
-     * Handles moving a checker to a new position on the board, including hitting an opponent's checker if applicable.
+     * Takes back a move previously played with {@link #apply(int)}, restoring any hit checker from the bar.
+     * Moves must be undone in the reverse order they were applied.
      *
-     * @param player        the player making the move.
-     * @param movingChecker the checker being moved.
-     * @param toCheckers    the list of checkers at the target position.
-     * @param toPosition    the target position to which the checker is being moved.
+     * @param token the undo token returned by {@link #apply(int)}.
      */
-    private void handleHitAndUpdatePosition(Player player, Checker movingChecker, List<Checker> toCheckers, int toPosition) {
-        if (!toCheckers.isEmpty() && !toCheckers.get(0).getOwner().equals(player)) {
-            Checker hitChecker = toCheckers.remove(0);
-            if (player == player1) {
-                barPlayer2.add(hitChecker);
-            } else {
-                barPlayer1.add(hitChecker);
+    public void undo(int token) {
+        int side = Move.side(token);
+        int from = Move.from(token);
+        int to = Move.to(token);
+
+        if (to == Move.offSlot(side)) {
+            setBearOff(side, bearOff[side] - 1);
+        } else {
+            removeChecker(side, to);
+            if (Move.isHit(token)) {
+                int opponent = 1 - side;
+                removeChecker(opponent, Move.barSlot(opponent));
+                setCount(opponent, to, 1);
             }
         }
 
-        // Place the moving checker at the target position.
-        toCheckers.add(movingChecker);
-        positions.put(toPosition, toCheckers);
+        setCount(side, from, getCheckerCount(side, from) + 1);
     }
 
     /**
-     * Handles the process of bearing off a checker for a player.
+     * Removes a single checker of the given side from a slot (board point or bar).
      *
-     * @param player       the player bearing off a checker.
-     * @param fromPosition the position from which the checker is being borne off.
+     * @param side     the side owning the checker.
+     * @param position the slot index.
      */
-    public void bearOffChecker(Player player, int fromPosition) {
-        List<Checker> fromCheckers = positions.get(fromPosition);
+    private void removeChecker(int side, int position) {
+        setCount(side, position, getCheckerCount(side, position) - 1);
+    }
 
-        if (fromCheckers == null || fromCheckers.isEmpty()) {
-            System.out.println("Error: No checkers to bear off from this position.");
-            return;
+    /**
+     * Replaces the whole position.
+     *
+     * @param slots       the signed counts of the 26 slots, laid out as described for this class.
+     * @param player1Off  the number of checkers Player 1 has borne off.
+     * @param player2Off  the number of checkers Player 2 has borne off.
+     */
+    void setPosition(int[] slots, int player1Off, int player2Off) {
+        for (int position = 0; position < points.length; position++) {
+            setSlot(position, slots[position]);
         }
+        setBearOff(PLAYER_1_SIDE, player1Off);
+        setBearOff(PLAYER_2_SIDE, player2Off);
+    }
 
-        Checker movingChecker = fromCheckers.remove(fromCheckers.size() - 1);
+    /**
+     * Replaces the position with the one on another board. Both boards should have the same players.
+     *
+     * @param other the board to copy the position from.
+     */
+    public void copyFrom(Board other) {
+        setPosition(other.points, other.bearOff[PLAYER_1_SIDE], other.bearOff[PLAYER_2_SIDE]);
+    }
 
-        if (fromCheckers.isEmpty()) {
-            positions.remove(fromPosition);
-        } else {
-            positions.put(fromPosition, fromCheckers);
+    /**
+     * Sets the number of checkers the given side has on a slot, replacing whatever occupied it.
+     *
+     * @param side     the side owning the checkers.
+     * @param position the slot index (0-25).
+     * @param count    the new checker count.
+     */
+    private void setCount(int side, int position, int count) {
+        setSlot(position, side == PLAYER_1_SIDE ? count : -count);
+    }
+
+    /**
+     * Returns the Zobrist key of the current position: the checkers on every point and bar and the borne-off counts
+     * of both sides. The key is kept up to date on every change, so reading it is free; equal positions always have
+     * equal keys, and different positions collide only with negligible probability.
+     *
+     * @return the 64-bit position key.
+     */
+    public long hash() {
+        return hash;
+    }
+
+    /**
+     * Writes the signed checker count of a slot and updates the position key, pip counts and slot bitmasks.
+     *
+     * @param position the slot index (0-25).
+     * @param value    the signed count; positive for Player 1, negative for Player 2.
+     */
+    private void setSlot(int position, int value) {
+        int old = points[position];
+        hash ^= SLOT_KEYS[position][old + MAX_STACK] ^ SLOT_KEYS[position][value + MAX_STACK];
+        pips[PLAYER_1_SIDE] += (Math.max(value, 0) - Math.max(old, 0)) * (PLAYER_1_BEAR_OFF_POSITION - position);
+        pips[PLAYER_2_SIDE] += (Math.max(-value, 0) - Math.max(-old, 0)) * (position - PLAYER_2_BEAR_OFF_POSITION);
+        points[position] = value;
+
+        int bit = 1 << position;
+        occupied[PLAYER_1_SIDE] = value > 0 ? occupied[PLAYER_1_SIDE] | bit : occupied[PLAYER_1_SIDE] & ~bit;
+        occupied[PLAYER_2_SIDE] = value < 0 ? occupied[PLAYER_2_SIDE] | bit : occupied[PLAYER_2_SIDE] & ~bit;
+        made[PLAYER_1_SIDE] = value >= 2 ? made[PLAYER_1_SIDE] | bit : made[PLAYER_1_SIDE] & ~bit;
+        made[PLAYER_2_SIDE] = value <= -2 ? made[PLAYER_2_SIDE] | bit : made[PLAYER_2_SIDE] & ~bit;
+    }
+
+    /**
+     * Writes the number of checkers a side has borne off and updates the position key.
+     *
+     * @param side  the side index.
+     * @param count the new borne-off count.
+     */
+    private void setBearOff(int side, int count) {
+        hash ^= BEAR_OFF_KEYS[side][bearOff[side]] ^ BEAR_OFF_KEYS[side][count];
+        bearOff[side] = count;
+    }
+
+    /**
+     * Returns a bitmask with the bits of a range of slots set.
+     *
+     * @param first the first slot of the range.
+     * @param last  the last slot of the range; the mask is empty if it is before {@code first}.
+     * @return the mask.
+     */
+    private static int pointMask(int first, int last) {
+        int mask = 0;
+        for (int slot = first; slot <= last; slot++) {
+            mask |= 1 << slot;
         }
+        return mask;
+    }
 
-        if (player == player1) {
-            bearOffPlayer1.add(movingChecker);
-        } else {
-            bearOffPlayer2.add(movingChecker);
+    /**
+     * Fills a key table with random 64-bit values.
+     *
+     * @param keys   the table to fill.
+     * @param random the random source.
+     */
+    private static void fillKeys(long[] keys, SplittableRandom random) {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Live map view of the occupied board points.
+     */
+    private final class PositionsView extends AbstractMap<Integer, List<Checker>> {
+        private final Set<Entry<Integer, List<Checker>>> entries = new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Integer, List<Checker>>> iterator() {
+                return new Iterator<>() {
+                    private int next = nextOccupied(1);
+                    private int last = -1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next <= NUMBER_OF_POINTS;
+                    }
+
+                    @Override
+                    public Entry<Integer, List<Checker>> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        last = next;
+                        next = nextOccupied(next + 1);
+                        return new SimpleImmutableEntry<>(last, pointViews[last]);
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last < 0) {
+                            throw new IllegalStateException();
+                        }
+                        setSlot(last, 0);
+                        last = -1;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                int size = 0;
+                for (int point = 1; point <= NUMBER_OF_POINTS; point++) {
+                    if (points[point] != 0) {
+                        size++;
+                    }
+                }
+                return size;
+            }
+        };
+
+        private int nextOccupied(int from) {
+            int point = from;
+            while (point <= NUMBER_OF_POINTS && points[point] == 0) {
+                point++;
+            }
+            return point;
+        }
+
+        @Override
+        public Set<Entry<Integer, List<Checker>>> entrySet() {
+            return entries;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer point && point >= 1 && point <= NUMBER_OF_POINTS && points[point] != 0;
+        }
+
+        @Override
+        public List<Checker> get(Object key) {
+            return containsKey(key) ? pointViews[(Integer) key] : null;
+        }
+
+        @Override
+        public List<Checker> put(Integer key, List<Checker> value) {
+            if (key < 1 || key > NUMBER_OF_POINTS) {
+                throw new IllegalArgumentException("Invalid board position: " + key);
+            }
+            List<Checker> previous = get(key);
+            setSlot(key, 0);
+            if (!value.isEmpty()) {
+                setCount(sideOf(value.get(0).getOwner()), key, value.size());
+            }
+            return previous;
+        }
+
+        @Override
+        public List<Checker> remove(Object key) {
+            List<Checker> previous = get(key);
+            if (previous != null) {
+                setSlot((Integer) key, 0);
+            }
+            return previous;
+        }
+    }
+
+    /**
+     * Live list view of the checkers on a single board point.
+     */
+    private final class PointView extends AbstractList<Checker> {
+        private final int point;
+
+        PointView(int point) {
+            this.point = point;
+        }
+
+        @Override
+        public Checker get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return checkers[points[point] > 0 ? PLAYER_1_SIDE : PLAYER_2_SIDE];
+        }
+
+        @Override
+        public int size() {
+            return Math.abs(points[point]);
+        }
+
+        @Override
+        public void add(int index, Checker checker) {
+            int side = sideOf(checker.getOwner());
+            if (getCheckerCount(1 - side, point) > 0) {
+                throw new IllegalArgumentException("Position " + point + " is occupied by the opponent.");
+            }
+            setCount(side, point, size() + 1);
+        }
+
+        @Override
+        public Checker remove(int index) {
+            Checker removed = get(index);
+            setSlot(point, points[point] - Integer.signum(points[point]));
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            setSlot(point, 0);
+        }
+    }
+
+    /**
+     * Live list view of one side's checkers on the bar.
+     */
+    private final class BarView extends AbstractList<Checker> {
+        private final int side;
+
+        BarView(int side) {
+            this.side = side;
+        }
+
+        @Override
+        public Checker get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return checkers[side];
+        }
+
+        @Override
+        public int size() {
+            return getBarCount(side);
+        }
+
+        @Override
+        public void add(int index, Checker checker) {
+            setCount(side, Move.barSlot(side), size() + 1);
+        }
+
+        @Override
+        public Checker remove(int index) {
+            Checker removed = get(index);
+            removeChecker(side, Move.barSlot(side));
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            setSlot(Move.barSlot(side), 0);
+        }
+    }
+
+    /**
+     * Live list view of one side's borne-off checkers.
+     */
+    private final class BearOffView extends AbstractList<Checker> {
+        private final int side;
+
+        BearOffView(int side) {
+            this.side = side;
+        }
+
+        @Override
+        public Checker get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return checkers[side];
+        }
+
+        @Override
+        public int size() {
+            return bearOff[side];
+        }
+
+        @Override
+        public void add(int index, Checker checker) {
+            setBearOff(side, bearOff[side] + 1);
+        }
+
+        @Override
+        public Checker remove(int index) {
+            Checker removed = get(index);
+            setBearOff(side, bearOff[side] - 1);
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            setBearOff(side, 0);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import java.util.random.RandomGenerator;
+
+import static util.CommonConstants.MAXIMUM_DICE_VALUE;
+
+/**
+ * Dice source that generates rolls in bulk into a byte buffer. Each call to the generator yields
+ * {@value #DICE_PER_DRAW} unbiased dice, taken as base-6 digits of a number below 6<sup>24</sup>, so the cost per
+ * roll is a fraction of a generator call.
+ */
+public class BufferedDiceSource implements DiceSource {
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private static final int DICE_PER_DRAW = 24;
+    private static final long DRAW_BOUND = power(MAXIMUM_DICE_VALUE, DICE_PER_DRAW);
+
+    private final RandomGenerator generator;
+    private final byte[] buffer;
+    private int position;
+
+    /**
+     * Creates a source with the default buffer size.
+     *
+     * @param generator the generator filling the buffer.
+     */
+    public BufferedDiceSource(RandomGenerator generator) {
+        this(generator, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a source.
+     *
+     * @param generator  the generator filling the buffer.
+     * @param bufferSize the number of dice generated at a time.
+     */
+    public BufferedDiceSource(RandomGenerator generator, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        this.generator = generator;
+        this.buffer = new byte[bufferSize];
+        this.position = bufferSize;
+    }
+
+    @Override
+    public int roll() {
+        if (position == buffer.length) {
+            refill();
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Fills the whole buffer with new dice.
+     */
+    private void refill() {
+        int index = 0;
+        while (index < buffer.length) {
+            long digits = generator.nextLong(DRAW_BOUND);
+            int end = Math.min(buffer.length, index + DICE_PER_DRAW);
+            for (; index < end; index++) {
+                buffer[index] = (byte) (digits % MAXIMUM_DICE_VALUE + 1);
+                digits /= MAXIMUM_DICE_VALUE;
+            }
+        }
+        position = 0;
+    }
+
+    /**
+     * Computes an integer power.
+     *
+     * @param base     the base.
+     * @param exponent the exponent.
+     * @return base raised to exponent.
+     */
+    private static long power(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
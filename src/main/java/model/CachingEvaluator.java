@@ -0,0 +1,56 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+/**
+ * Evaluator that answers from an {@link EvaluationCache} when it can and otherwise asks another evaluator and
+ * caches the result. The cache may be shared by caching evaluators on many threads; each thread still needs its
+ * own caching evaluator, since the wrapped evaluator is not thread-safe.
+ */
+public class CachingEvaluator implements Evaluator {
+    private final Evaluator evaluator;
+    private final EvaluationCache cache;
+
+    /**
+     * Creates a caching evaluator.
+     *
+     * @param evaluator the evaluator computing missing entries.
+     * @param cache     the cache; may be shared.
+     */
+    public CachingEvaluator(Evaluator evaluator, EvaluationCache cache) {
+        this.evaluator = evaluator;
+        this.cache = cache;
+    }
+
+    @Override
+    public void evaluate(Board board, int side, float[] output) {
+        long key = EvaluationCache.key(board, side);
+        if (!cache.get(key, output)) {
+            evaluator.evaluate(board, side, output);
+            cache.put(key, output);
+        }
+    }
+
+    /**
+     * Returns the cache this evaluator uses.
+     *
+     * @return the cache.
+     */
+    public EvaluationCache getCache() {
+        return cache;
+    }
+}
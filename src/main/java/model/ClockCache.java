@@ -0,0 +1,224 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+
+package model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Index shared by the fixed-size caches, safe to share between threads; subclasses keep the cached values in their
+ * own arrays, one slot per entry.
+ * <p>
+ * The index is set-associative: a key maps to one bucket of {@value #WAYS} entries, and when the bucket is full an
+ * entry is evicted with the clock (second chance) policy, so recently read entries survive. Keys and reference bits
+ * are kept in primitive arrays. Buckets are guarded by a fixed set of striped locks, so threads only contend when
+ * they touch buckets sharing a lock; subclasses read and write an entry's value while holding {@link #lock(long)}.
+ */
+abstract class ClockCache {
+    private static final int WAYS = 4;
+    private static final int STRIPES = 64;
+    private static final byte EMPTY = 0;
+    private static final byte CACHED = 1;
+    private static final byte REFERENCED = 2;
+
+    private final int bucketMask;
+    private final long[] keys;
+    private final byte[] states;
+    private final byte[] hands;
+    private final Object[] locks = new Object[STRIPES];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates the index.
+     *
+     * @param capacity the least number of entries to hold; rounded up to a power of two.
+     */
+    ClockCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+        }
+        int buckets = Integer.highestOneBit(((capacity + WAYS - 1) / WAYS) * 2 - 1);
+        this.bucketMask = buckets - 1;
+        this.keys = new long[buckets * WAYS];
+        this.states = new byte[buckets * WAYS];
+        this.hands = new byte[buckets];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Returns the lock guarding the bucket of a key.
+     *
+     * @param key the key.
+     * @return the lock.
+     */
+    final Object lock(long key) {
+        return locks[bucket(key) & (STRIPES - 1)];
+    }
+
+    /**
+     * Looks up the entry holding a key, marking it as recently read and counting the hit or miss. Must hold the
+     * key's lock.
+     *
+     * @param key the key.
+     * @return the entry index, or -1 if the key is not cached.
+     */
+    final int find(long key) {
+        int first = bucket(key) * WAYS;
+        for (int entry = first; entry < first + WAYS; entry++) {
+            if (states[entry] != EMPTY && keys[entry] == key) {
+                states[entry] = REFERENCED;
+                hits.increment();
+                return entry;
+            }
+        }
+        misses.increment();
+        return -1;
+    }
+
+    /**
+     * Claims the entry to store a key in, replacing any entry for the same key or evicting one from a full bucket.
+     * Must hold the key's lock, and the caller stores the value while still holding it.
+     *
+     * @param key the key.
+     * @return the entry index.
+     */
+    final int claim(long key) {
+        int entry = findSlot(bucket(key), key);
+        keys[entry] = key;
+        states[entry] = CACHED;
+        return entry;
+    }
+
+    /**
+     * Releases the values of a range of entries when the cache is cleared. Called while holding their lock.
+     *
+     * @param from the first entry index.
+     * @param to   the entry index after the last.
+     */
+    void clearEntries(int from, int to) {
+    }
+
+    /**
+     * Removes every entry and resets the counters.
+     */
+    public void clear() {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            synchronized (locks[stripe]) {
+                for (int bucket = stripe; bucket <= bucketMask; bucket += STRIPES) {
+                    Arrays.fill(states, bucket * WAYS, (bucket + 1) * WAYS, EMPTY);
+                    clearEntries(bucket * WAYS, (bucket + 1) * WAYS);
+                }
+            }
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Returns the number of entries the cache can hold.
+     *
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the number of lookups that found an entry.
+     *
+     * @return the hit count.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found nothing.
+     *
+     * @return the miss count.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries evicted to make room for new ones.
+     *
+     * @return the eviction count.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the share of lookups that hit.
+     *
+     * @return the hit rate between 0 and 1, or 0 before any lookup.
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Picks the entry of a bucket to store a key in: the entry already holding it, an empty entry, or the first
+     * entry the clock hand finds without its reference bit, clearing bits as it passes. Must hold the bucket's lock.
+     *
+     * @param bucket the bucket index.
+     * @param key    the key to store.
+     * @return the entry index.
+     */
+    private int findSlot(int bucket, long key) {
+        int first = bucket * WAYS;
+        int empty = -1;
+        for (int entry = first; entry < first + WAYS; entry++) {
+            if (states[entry] == EMPTY) {
+                empty = empty < 0 ? entry : empty;
+            } else if (keys[entry] == key) {
+                return entry;
+            }
+        }
+        if (empty >= 0) {
+            return empty;
+        }
+        int hand = hands[bucket];
+        while (states[first + hand] == REFERENCED) {
+            states[first + hand] = CACHED;
+            hand = (hand + 1) % WAYS;
+        }
+        hands[bucket] = (byte) ((hand + 1) % WAYS);
+        evictions.increment();
+        return first + hand;
+    }
+
+    /**
+     * Maps a key to its bucket.
+     *
+     * @param key the key.
+     * @return the bucket index.
+     */
+    private int bucket(long key) {
+        return (int) (key ^ (key >>> 32)) & bucketMask;
+    }
+}
@@ -15,15 +15,29 @@
 
 package model;
 
-import java.util.Random;
-
-import static util.CommonConstants.MAXIMUM_DICE_VALUE;
+import java.util.SplittableRandom;
 
 /**
- * Represents a single die used in the Backgammon game.
+ * Represents a single die used in the Backgammon game. The values come from a {@link DiceSource}.
  */
 public class Dice {
-    private final Random random = new Random();
+    private final DiceSource source;
+
+    /**
+     * Creates a die with its own randomly seeded source.
+     */
+    public Dice() {
+        this(new BufferedDiceSource(new SplittableRandom()));
+    }
+
+    /**
+     * Creates a die drawing from the given source.
+     *
+     * @param source the source of the values.
+     */
+    public Dice(DiceSource source) {
+        this.source = source;
+    }
 
     /**
      * Rolls the die and returns a value between 1 and 6.
@@ -31,6 +45,6 @@ public class Dice {
      * @return the result of the die roll.
      */
     public int roll() {
-        return random.nextInt(MAXIMUM_DICE_VALUE) + 1;
+        return source.roll();
     }
 }
@@ -0,0 +1,67 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import static util.CommonConstants.MAXIMUM_DICE_VALUE;
+
+/**
+ * Supplies die values for {@link Dice}. Sources are not thread-safe unless stated otherwise; give each thread its
+ * own source, e.g. one per simulated match or per rollout task.
+ */
+public interface DiceSource {
+
+    /**
+     * Rolls one die.
+     *
+     * @return a value between 1 and 6.
+     */
+    int roll();
+
+    /**
+     * Creates a source drawing from a random generator, one call per die.
+     *
+     * @param generator the generator; used only from the thread rolling the dice.
+     * @return the source.
+     */
+    static DiceSource of(RandomGenerator generator) {
+        return () -> generator.nextInt(MAXIMUM_DICE_VALUE) + 1;
+    }
+
+    /**
+     * Creates a reproducible source: the same seed always produces the same rolls.
+     *
+     * @param seed the seed.
+     * @return the source.
+     */
+    static DiceSource seeded(long seed) {
+        return new BufferedDiceSource(new SplittableRandom(seed));
+    }
+
+    /**
+     * Returns a source backed by the calling thread's {@link ThreadLocalRandom}. It is safe to share between
+     * threads, and threads never contend for it.
+     *
+     * @return the source.
+     */
+    static DiceSource threadLocal() {
+        return () -> ThreadLocalRandom.current().nextInt(MAXIMUM_DICE_VALUE) + 1;
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+/**
+ * Dot products for network inference. Uses {@link VectorDotProduct} when the {@code jdk.incubator.vector} module
+ * has been added to the JVM ({@code --add-modules jdk.incubator.vector}) and a scalar loop otherwise.
+ */
+final class DotProduct {
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private DotProduct() {
+    }
+
+    /**
+     * Computes the dot product of a row of a weight matrix with a vector.
+     *
+     * @param weights the flat weight matrix.
+     * @param offset  the index of the row's first weight.
+     * @param values  the vector.
+     * @param length  the number of elements to multiply.
+     * @return the dot product.
+     */
+    static float dot(float[] weights, int offset, float[] values, int length) {
+        return VECTORIZED ? VectorDotProduct.dot(weights, offset, values, length) : scalarDot(weights, offset, values, length);
+    }
+
+    /**
+     * Computes the dot product one element at a time.
+     *
+     * @param weights the flat weight matrix.
+     * @param offset  the index of the row's first weight.
+     * @param values  the vector.
+     * @param length  the number of elements to multiply.
+     * @return the dot product.
+     */
+    static float scalarDot(float[] weights, int offset, float[] values, int length) {
+        float sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += weights[offset + i] * values[i];
+        }
+        return sum;
+    }
+}
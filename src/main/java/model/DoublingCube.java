@@ -58,6 +58,16 @@ public class DoublingCube {
         owner = newOwner;
     }
 
+    /**
+     * Sets this cube to the value and owner of another cube.
+     *
+     * @param other the cube to copy.
+     */
+    public void copyFrom(DoublingCube other) {
+        value = other.value;
+        owner = other.owner;
+    }
+
     /**
      * Resets the doubling cube to its default state (value = 1, no owner).
      */
@@ -0,0 +1,81 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+/**
+ * Fixed-size cache of evaluation outputs keyed by position, safe to share between threads.
+ * <p>
+ * Keys combine the board hash with the side to move, and the {@value Evaluator#OUTPUTS} outputs of each entry are
+ * packed into one {@code float} array. Eviction and locking follow {@link ClockCache}.
+ */
+public class EvaluationCache extends ClockCache {
+    private static final long[] SIDE_KEYS = {0x5851F42D4C957F2DL, 0x14057B7EF767814FL};
+
+    private final float[] outputs;
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity the least number of evaluations to hold; rounded up to a power of two.
+     */
+    public EvaluationCache(int capacity) {
+        super(capacity);
+        this.outputs = new float[getCapacity() * Evaluator.OUTPUTS];
+    }
+
+    /**
+     * Returns the cache key of a position with a side to move.
+     *
+     * @param board the position.
+     * @param side  the side to move.
+     * @return the 64-bit key.
+     */
+    public static long key(Board board, int side) {
+        return board.hash() ^ SIDE_KEYS[side];
+    }
+
+    /**
+     * Looks up an evaluation.
+     *
+     * @param key    the position key from {@link #key(Board, int)}.
+     * @param output the array receiving the cached outputs on a hit.
+     * @return true on a hit; false if the key is not cached, leaving the output unchanged.
+     */
+    public boolean get(long key, float[] output) {
+        synchronized (lock(key)) {
+            int entry = find(key);
+            if (entry < 0) {
+                return false;
+            }
+            System.arraycopy(outputs, entry * Evaluator.OUTPUTS, output, 0, Evaluator.OUTPUTS);
+            return true;
+        }
+    }
+
+    /**
+     * Stores an evaluation, replacing any entry for the same key or evicting one from a full bucket.
+     *
+     * @param key    the position key from {@link #key(Board, int)}.
+     * @param output the outputs to store.
+     */
+    public void put(long key, float[] output) {
+        synchronized (lock(key)) {
+            int entry = claim(key);
+            System.arraycopy(output, 0, outputs, entry * Evaluator.OUTPUTS, Evaluator.OUTPUTS);
+        }
+    }
+}
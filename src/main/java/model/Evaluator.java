@@ -0,0 +1,162 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Estimates the outcome of a position for the side to move.
+ * <p>
+ * An evaluation fills {@link #OUTPUTS} cubeless probabilities: winning, winning a gammon, winning a backgammon,
+ * losing a gammon and losing a backgammon. Gammon probabilities include backgammons. Evaluators hold scratch
+ * buffers and must not be shared between threads.
+ */
+public interface Evaluator {
+    int OUTPUTS = 5;
+    int WIN = 0;
+    int WIN_GAMMON = 1;
+    int WIN_BACKGAMMON = 2;
+    int LOSE_GAMMON = 3;
+    int LOSE_BACKGAMMON = 4;
+
+    /**
+     * System property naming a weights file for {@link #createDefault()}.
+     */
+    String WEIGHTS_PROPERTY = "backgammon.weights";
+
+    /**
+     * System property naming a one-sided bear-off database file for {@link #createDefault()}.
+     */
+    String BEAR_OFF_PROPERTY = "backgammon.bearoff";
+
+    /**
+     * System property naming a two-sided bear-off database file for {@link #createDefault()}.
+     */
+    String TWO_SIDED_BEAR_OFF_PROPERTY = "backgammon.bearoff.twosided";
+
+    /**
+     * Evaluates a position.
+     *
+     * @param board  the position.
+     * @param side   the side to move, from whose point of view the outputs are given.
+     * @param output the array receiving the {@link #OUTPUTS} probabilities.
+     */
+    void evaluate(Board board, int side, float[] output);
+
+    /**
+     * Converts evaluation outputs into cubeless equity: the expected points won per unit stake.
+     *
+     * @param output the probabilities from {@link #evaluate(Board, int, float[])}.
+     * @return the equity, between -3 and 3.
+     */
+    static float equity(float[] output) {
+        return 2 * output[WIN] - 1 + output[WIN_GAMMON] - output[LOSE_GAMMON]
+                + output[WIN_BACKGAMMON] - output[LOSE_BACKGAMMON];
+    }
+
+    /**
+     * Picks the play that leaves the opponent with the lowest equity.
+     *
+     * @param board the position the plays were generated for; it is left unchanged.
+     * @param side  the side making the play.
+     * @param plays the candidate plays; never empty.
+     * @return the best play.
+     */
+    default Play choosePlay(Board board, int side, List<Play> plays) {
+        float[] output = new float[OUTPUTS];
+        Play best = plays.get(0);
+        float bestEquity = Float.NEGATIVE_INFINITY;
+        for (Play play : plays) {
+            play.apply(board);
+            evaluate(board, 1 - side, output);
+            play.undo(board);
+            float equity = -equity(output);
+            if (equity > bestEquity) {
+                bestEquity = equity;
+                best = play;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Creates an evaluator from a weights file: a {@link NeuralEvaluator} running the network in the file, or a
+     * {@link PipCountEvaluator} when no file is given.
+     *
+     * @param weights the weights file, or null.
+     * @return a new evaluator.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file does not hold network weights.
+     */
+    static Evaluator create(Path weights) throws IOException {
+        if (weights == null) {
+            return new PipCountEvaluator();
+        }
+        try (InputStream in = Files.newInputStream(weights)) {
+            return new NeuralEvaluator(NeuralNetwork.read(in));
+        }
+    }
+
+    /**
+     * Creates an evaluator from a weights file and bear-off databases. Bear-off races are scored from the
+     * {@link OneSidedBearOff} database by a {@link BearOffEvaluator}, together with the {@link TwoSidedBearOff}
+     * database, if any; other positions by the evaluator from {@link #create(Path)}.
+     *
+     * @param weights  the weights file, or null.
+     * @param bearOff  the one-sided bear-off database, or null.
+     * @param twoSided the two-sided bear-off database, or null; only used with a one-sided database.
+     * @return a new evaluator.
+     * @throws IOException              if a file cannot be read.
+     * @throws IllegalArgumentException if a file does not hold what it should.
+     */
+    static Evaluator create(Path weights, Path bearOff, Path twoSided) throws IOException {
+        Evaluator evaluator = create(weights);
+        if (bearOff == null) {
+            return evaluator;
+        }
+        return new BearOffEvaluator(OneSidedBearOff.open(bearOff),
+                twoSided == null ? null : TwoSidedBearOff.open(twoSided), evaluator);
+    }
+
+    /**
+     * Creates the evaluator the game uses for hints, from the files named by the {@value #WEIGHTS_PROPERTY},
+     * {@value #BEAR_OFF_PROPERTY} and {@value #TWO_SIDED_BEAR_OFF_PROPERTY} system properties; see
+     * {@link #create(Path, Path, Path)}. Without them, it is a {@link PipCountEvaluator}.
+     *
+     * @return a new evaluator.
+     * @throws IOException              if a named file cannot be read.
+     * @throws IllegalArgumentException if a named file does not hold what it should.
+     */
+    static Evaluator createDefault() throws IOException {
+        return create(pathProperty(WEIGHTS_PROPERTY), pathProperty(BEAR_OFF_PROPERTY),
+                pathProperty(TWO_SIDED_BEAR_OFF_PROPERTY));
+    }
+
+    /**
+     * Reads a system property naming a file.
+     *
+     * @param name the property name.
+     * @return the file, or null if the property is not set.
+     */
+    private static Path pathProperty(String name) {
+        String value = System.getProperty(name);
+        return value == null ? null : Path.of(value);
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+import static util.CommonConstants.*;
+
+/**
+ * Static helpers for single-checker moves packed into an {@code int}: source slot, target slot, side, hit flag and
+ * the die used. Strings are only produced by {@link #format(int)} for display.
+ * <p>
+ * Positions use the board's slot numbering: 1-24 are points, and 0 and 25 stand for the bar or the
+ * bear-off tray depending on the side moving. Player 1 enters from 0 and bears off to 25; Player 2
+ * enters from 25 and bears off to 0. The hit flag is set by {@link Board#apply(int)} on the returned
+ * undo token.
+ */
+public final class Move {
+    private static final int POSITION_BITS = 5;
+    private static final int POSITION_MASK = (1 << POSITION_BITS) - 1;
+    private static final int TO_SHIFT = POSITION_BITS;
+    private static final int SIDE_SHIFT = 2 * POSITION_BITS;
+    private static final int HIT_FLAG = 1 << (SIDE_SHIFT + 1);
+    private static final int DIE_SHIFT = SIDE_SHIFT + 2;
+    private static final int DIE_MASK = 7;
+
+    private Move() {
+    }
+
+    /**
+     * Packs a move into an int.
+     *
+     * @param side the side moving.
+     * @param from the slot the checker leaves.
+     * @param to   the slot the checker arrives at.
+     * @return the packed move.
+     */
+    public static int of(int side, int from, int to) {
+        return from | (to << TO_SHIFT) | (side << SIDE_SHIFT);
+    }
+
+    /**
+     * Packs a move made with a specific die into an int.
+     *
+     * @param side the side moving.
+     * @param from the slot the checker leaves.
+     * @param to   the slot the checker arrives at.
+     * @param die  the die value used.
+     * @return the packed move.
+     */
+    public static int of(int side, int from, int to, int die) {
+        return of(side, from, to) | (die << DIE_SHIFT);
+    }
+
+    /**
+     * Returns the slot the checker leaves.
+     *
+     * @param move the packed move.
+     * @return the source slot.
+     */
+    public static int from(int move) {
+        return move & POSITION_MASK;
+    }
+
+    /**
+     * Returns the slot the checker arrives at.
+     *
+     * @param move the packed move.
+     * @return the target slot.
+     */
+    public static int to(int move) {
+        return (move >>> TO_SHIFT) & POSITION_MASK;
+    }
+
+    /**
+     * Returns the side making the move.
+     *
+     * @param move the packed move.
+     * @return the side index.
+     */
+    public static int side(int move) {
+        return (move >>> SIDE_SHIFT) & 1;
+    }
+
+    /**
+     * Returns the die value the move uses, or 0 if the move was packed without one.
+     *
+     * @param move the packed move.
+     * @return the die value.
+     */
+    public static int die(int move) {
+        return (move >>> DIE_SHIFT) & DIE_MASK;
+    }
+
+    /**
+     * Checks whether two moves take a checker between the same slots, ignoring the die and hit flag.
+     *
+     * @param move  the first packed move.
+     * @param other the second packed move.
+     * @return true if both moves share side, source and target.
+     */
+    public static boolean sameSteps(int move, int other) {
+        return ((move ^ other) & (HIT_FLAG - 1)) == 0;
+    }
+
+    /**
+     * Formats a move for display, e.g. {@code "13 -> 8"}, {@code "BAR -> 5"} or {@code "3 -> OFF"}.
+     *
+     * @param move the packed move.
+     * @return the move as text.
+     */
+    public static String format(int move) {
+        int side = side(move);
+        String from = from(move) == barSlot(side) ? BAR : String.valueOf(from(move));
+        String to = to(move) == offSlot(side) ? OFF : String.valueOf(to(move));
+        return from + " -> " + to;
+    }
+
+    /**
+     * Checks whether the move hit an opposing blot.
+     *
+     * @param move the packed move or undo token.
+     * @return true if the hit flag is set.
+     */
+    public static boolean isHit(int move) {
+        return (move & HIT_FLAG) != 0;
+    }
+
+    /**
+     * Returns the move with the hit flag set.
+     *
+     * @param move the packed move.
+     * @return the move marked as a hit.
+     */
+    static int withHit(int move) {
+        return move | HIT_FLAG;
+    }
+
+    /**
+     * Returns the slot a side enters from when leaving the bar.
+     *
+     * @param side the side index.
+     * @return the bar slot for that side.
+     */
+    public static int barSlot(int side) {
+        return side == PLAYER_1_SIDE ? PLAYER_2_BEAR_OFF_POSITION : PLAYER_1_BEAR_OFF_POSITION;
+    }
+
+    /**
+     * Returns the slot a side moves to when bearing a checker off.
+     *
+     * @param side the side index.
+     * @return the bear-off slot for that side.
+     */
+    public static int offSlot(int side) {
+        return side == PLAYER_1_SIDE ? PLAYER_1_BEAR_OFF_POSITION : PLAYER_2_BEAR_OFF_POSITION;
+    }
+}
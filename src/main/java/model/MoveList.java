@@ -0,0 +1,101 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Growable buffer of packed moves (see {@link Move}) that can be cleared and refilled without allocating.
+ */
+public class MoveList {
+    private int[] moves;
+    private int size;
+
+    /**
+     * Creates an empty move list.
+     */
+    public MoveList() {
+        this.moves = new int[32];
+    }
+
+    /**
+     * Appends a move.
+     *
+     * @param move the packed move.
+     */
+    public void add(int move) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+        }
+        moves[size++] = move;
+    }
+
+    /**
+     * Appends a move unless a move between the same slots is already present. When the existing move uses a larger
+     * die (bearing off with more than needed), it is replaced so the smallest sufficient die is used.
+     *
+     * @param move the packed move.
+     */
+    public void addUnique(int move) {
+        for (int i = 0; i < size; i++) {
+            if (Move.sameSteps(moves[i], move)) {
+                if (Move.die(move) < Move.die(moves[i])) {
+                    moves[i] = move;
+                }
+                return;
+            }
+        }
+        add(move);
+    }
+
+    /**
+     * Returns the move at the given index.
+     *
+     * @param index the index of the move.
+     * @return the packed move.
+     */
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return moves[index];
+    }
+
+    /**
+     * Returns the number of moves in the list.
+     *
+     * @return the number of moves.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the list holds no moves.
+     *
+     * @return true if the list is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all moves, keeping the buffer for reuse.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,415 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static util.CommonConstants.*;
+
+/**
+ * Expectiminimax search over plays and dice rolls.
+ * <p>
+ * A position evaluated at n plies averages, over the 21 distinct rolls, the best play for that roll evaluated at
+ * n - 1 plies from the opponent's side; at 0 plies the {@link Evaluator} is used directly. To keep the branching
+ * factor tractable, every play choice first ranks the plays at 0 plies and only searches the best few further.
+ * Chance nodes stop averaging early once even the worst outcome for the remaining rolls cannot make the play
+ * better than one already searched.
+ * <p>
+ * The search deepens one ply at a time and returns the deepest result that completed within the node and time
+ * budget. A search reuses its buffers and must not be shared between threads.
+ * <p>
+ * With a {@link TranspositionTable}, completed chance nodes are stored by position and reused when the same
+ * position is reached again through another roll or play order, at the same or a shallower depth. The table may
+ * be shared by searches on many threads.
+ */
+public class NPlySearch {
+    public static final int DEFAULT_FILTER_WIDTH = 8;
+    public static final float DEFAULT_FILTER_MARGIN = 0.16f;
+
+    private static final int ROLLS = 36;
+    private static final float MIN_EQUITY = -3;
+    private static final int DEADLINE_CHECK_MASK = 0xFF;
+    private static final int[][] DISTINCT_ROLLS = distinctRolls();
+
+    private final Evaluator evaluator;
+    private final int filterWidth;
+    private final float filterMargin;
+    private final PlayGenerator generator = new PlayGenerator();
+
+    private long nodeLimit = Long.MAX_VALUE;
+    private long timeLimitNanos = Long.MAX_VALUE;
+    private TranspositionTable transpositions;
+
+    private long nodes;
+    private long deadline;
+    private boolean aborted;
+    private float[][] sums = new float[0][];
+    private float[][] bests = new float[0][];
+    private float[][] children = new float[0][];
+    private float[][] equities = new float[0][];
+    private int[][] orders = new int[0][];
+    private Play[] bestPlays = new Play[0];
+
+    /**
+     * Creates a search with the default move filter.
+     *
+     * @param evaluator the evaluator used at the leaves and for move filtering.
+     */
+    public NPlySearch(Evaluator evaluator) {
+        this(evaluator, DEFAULT_FILTER_WIDTH, DEFAULT_FILTER_MARGIN);
+    }
+
+    /**
+     * Creates a search.
+     *
+     * @param evaluator    the evaluator used at the leaves and for move filtering.
+     * @param filterWidth  the most plays searched deeper at each play choice.
+     * @param filterMargin how far below the best 0-ply equity a play may be and still be searched deeper.
+     */
+    public NPlySearch(Evaluator evaluator, int filterWidth, float filterMargin) {
+        if (filterWidth < 1) {
+            throw new IllegalArgumentException("Filter width must be at least 1: " + filterWidth);
+        }
+        this.evaluator = evaluator;
+        this.filterWidth = filterWidth;
+        this.filterMargin = filterMargin;
+    }
+
+    /**
+     * Limits the number of positions a search may evaluate.
+     *
+     * @param nodeLimit the node budget; {@link Long#MAX_VALUE} for none.
+     */
+    public void setNodeLimit(long nodeLimit) {
+        this.nodeLimit = nodeLimit;
+    }
+
+    /**
+     * Limits how long a search may run.
+     *
+     * @param millis the time budget in milliseconds; {@link Long#MAX_VALUE} for none.
+     */
+    public void setTimeLimit(long millis) {
+        this.timeLimitNanos = millis >= Long.MAX_VALUE / 1_000_000 ? Long.MAX_VALUE : millis * 1_000_000;
+    }
+
+    /**
+     * Sets the table completed chance nodes are stored in and looked up from.
+     *
+     * @param transpositions the table, or null to search every node.
+     */
+    public void setTranspositionTable(TranspositionTable transpositions) {
+        this.transpositions = transpositions;
+    }
+
+    /**
+     * Finds the best play for a roll, searching up to the given depth. The 0-ply search always completes; deeper
+     * searches are kept only if they finish within the budget.
+     *
+     * @param board    the position; it is left unchanged.
+     * @param side     the side to move.
+     * @param die1     the first die.
+     * @param die2     the second die.
+     * @param maxPlies the deepest search, in plies.
+     * @return the best play of the deepest completed search.
+     */
+    public SearchResult findBestPlay(Board board, int side, int die1, int die2, int maxPlies) {
+        long start = System.nanoTime();
+        deadline = timeLimitNanos == Long.MAX_VALUE ? Long.MAX_VALUE : start + timeLimitNanos;
+        nodes = 0;
+        aborted = false;
+        ensureLevels(maxPlies);
+
+        float[] output = new float[Evaluator.OUTPUTS];
+        List<Play> plays = generator.generate(board, side, die1, die2);
+        Play best = plays.get(0);
+        int depth = 0;
+        for (int plies = 0; plies <= maxPlies; plies++) {
+            chooseBestPlay(board, side, plays, plies, bests[plies]);
+            if (aborted && plies > 0) {
+                break;
+            }
+            best = bestPlays[plies];
+            System.arraycopy(bests[plies], 0, output, 0, Evaluator.OUTPUTS);
+            depth = plies;
+            if (plays.size() == 1) {
+                break;
+            }
+        }
+        return new SearchResult(best, output, depth, nodes, System.nanoTime() - start);
+    }
+
+    /**
+     * Evaluates the position before the side to move rolls, at the given depth.
+     *
+     * @param board  the position; it is left unchanged.
+     * @param side   the side about to roll.
+     * @param plies  the search depth.
+     * @param output the array receiving the probabilities from the side's point of view.
+     * @return the cubeless equity, or {@code NaN} if the budget ran out first.
+     */
+    public float evaluate(Board board, int side, int plies, float[] output) {
+        deadline = timeLimitNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + timeLimitNanos;
+        nodes = 0;
+        aborted = false;
+        ensureLevels(plies);
+        float equity = plies == 0
+                ? evaluateStatic(board, side, output)
+                : evaluateChance(board, side, plies, Float.POSITIVE_INFINITY, output);
+        return aborted ? Float.NaN : equity;
+    }
+
+    /**
+     * Returns the number of positions evaluated by the last search.
+     *
+     * @return the node count.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Averages the best play over all rolls for the side about to roll. A finished game is scored exactly instead,
+     * since the loser must not roll on and bear off too.
+     *
+     * @param board  the position.
+     * @param side   the side about to roll.
+     * @param plies  the remaining depth, at least 1.
+     * @param beta   the equity at or above which the caller no longer cares about the exact value.
+     * @param output the array receiving the averaged probabilities.
+     * @return the averaged equity, or a lower bound of at least {@code beta} if the node was cut off.
+     */
+    private float evaluateChance(Board board, int side, int plies, float beta, float[] output) {
+        if (scoreFinishedGame(board, side, output)) {
+            return Evaluator.equity(output);
+        }
+        long key = 0;
+        if (transpositions != null) {
+            key = TranspositionTable.key(board, side);
+            if (transpositions.probe(key, plies, output)) {
+                return Evaluator.equity(output);
+            }
+        }
+
+        float[] sum = sums[plies];
+        float[] best = bests[plies - 1];
+        Arrays.fill(sum, 0);
+        float equitySum = 0;
+        int weightLeft = ROLLS;
+        for (int[] roll : DISTINCT_ROLLS) {
+            List<Play> plays = generator.generate(board, side, roll[0], roll[1]);
+            float equity = chooseBestPlay(board, side, plays, plies - 1, best);
+            if (aborted) {
+                return 0;
+            }
+            int weight = roll[2];
+            for (int i = 0; i < Evaluator.OUTPUTS; i++) {
+                sum[i] += weight * best[i];
+            }
+            equitySum += weight * equity;
+            weightLeft -= weight;
+            float lowerBound = (equitySum + weightLeft * MIN_EQUITY) / ROLLS;
+            if (weightLeft > 0 && lowerBound >= beta) {
+                return lowerBound;
+            }
+        }
+        for (int i = 0; i < Evaluator.OUTPUTS; i++) {
+            output[i] = sum[i] / ROLLS;
+        }
+        if (transpositions != null && plies <= TranspositionTable.MAX_DEPTH) {
+            transpositions.store(key, plies, output);
+        }
+        return equitySum / ROLLS;
+    }
+
+    /**
+     * Picks the best play at the given depth. Plays are ranked at 0 plies first; at greater depths only the
+     * plays passing the move filter are searched further, best-ranked first.
+     *
+     * @param board  the position the plays were generated for; it is left unchanged.
+     * @param side   the side making the play.
+     * @param plays  the legal plays; never empty.
+     * @param plies  the depth at which the resulting positions are evaluated.
+     * @param output the array receiving the probabilities of the best play from the side's point of view.
+     * @return the equity of the best play.
+     */
+    private float chooseBestPlay(Board board, int side, List<Play> plays, int plies, float[] output) {
+        float[] child = children[plies];
+        int count = plays.size();
+        if (equities[plies].length < count) {
+            equities[plies] = new float[count];
+            orders[plies] = new int[count];
+        }
+        float[] ranking = equities[plies];
+        int[] order = orders[plies];
+
+        float bestEquity = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            Play play = plays.get(i);
+            play.apply(board);
+            float equity = -evaluateStatic(board, 1 - side, child);
+            play.undo(board);
+            if (plies == 0 && equity > bestEquity) {
+                bestEquity = equity;
+                bestPlays[0] = play;
+                invert(child, output);
+            }
+            ranking[i] = equity;
+            insertByEquity(order, ranking, i);
+        }
+        if (plies == 0 || aborted) {
+            return bestEquity;
+        }
+
+        float cutoff = ranking[order[0]] - filterMargin;
+        int candidates = Math.min(count, filterWidth);
+        for (int i = 0; i < candidates && ranking[order[i]] >= cutoff; i++) {
+            Play play = plays.get(order[i]);
+            play.apply(board);
+            float equity = scoreFinishedGame(board, 1 - side, child)
+                    ? -Evaluator.equity(child)
+                    : -evaluateChance(board, 1 - side, plies, -bestEquity, child);
+            play.undo(board);
+            if (aborted) {
+                return bestEquity;
+            }
+            if (equity > bestEquity) {
+                bestEquity = equity;
+                bestPlays[plies] = play;
+                invert(child, output);
+            }
+        }
+        return bestEquity;
+    }
+
+    /**
+     * Evaluates a position with the evaluator, scoring finished games exactly, and charges the node budget.
+     *
+     * @param board  the position.
+     * @param side   the side to move.
+     * @param output the array receiving the probabilities from the side's point of view.
+     * @return the cubeless equity.
+     */
+    private float evaluateStatic(Board board, int side, float[] output) {
+        nodes++;
+        if (nodes >= nodeLimit || ((nodes & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() > deadline)) {
+            aborted = true;
+        }
+        if (!scoreFinishedGame(board, side, output)) {
+            evaluator.evaluate(board, side, output);
+        }
+        return Evaluator.equity(output);
+    }
+
+    /**
+     * Fills the exact outcome of a finished game.
+     *
+     * @param board  the position.
+     * @param side   the side from whose point of view the outcome is given.
+     * @param output the array receiving the probabilities.
+     * @return true if a side has borne off all checkers; false if the game is still running.
+     */
+    static boolean scoreFinishedGame(Board board, int side, float[] output) {
+        int winner;
+        if (board.getBearOffCount(PLAYER_1_SIDE) == CHECKERS_PER_PLAYER) {
+            winner = PLAYER_1_SIDE;
+        } else if (board.getBearOffCount(PLAYER_2_SIDE) == CHECKERS_PER_PLAYER) {
+            winner = PLAYER_2_SIDE;
+        } else {
+            return false;
+        }
+        int loser = 1 - winner;
+        boolean gammon = board.getBearOffCount(loser) == 0;
+        boolean backgammon = gammon
+                && (board.getBarCount(loser) > 0 || board.hasCheckersInHomeBoard(loser, winner));
+        float won = winner == side ? 1 : 0;
+        output[Evaluator.WIN] = won;
+        output[Evaluator.WIN_GAMMON] = gammon ? won : 0;
+        output[Evaluator.WIN_BACKGAMMON] = backgammon ? won : 0;
+        output[Evaluator.LOSE_GAMMON] = gammon ? 1 - won : 0;
+        output[Evaluator.LOSE_BACKGAMMON] = backgammon ? 1 - won : 0;
+        return true;
+    }
+
+    /**
+     * Turns probabilities given from one side's point of view into the opponent's.
+     *
+     * @param from the probabilities to convert.
+     * @param to   the array receiving the converted probabilities.
+     */
+    static void invert(float[] from, float[] to) {
+        to[Evaluator.WIN] = 1 - from[Evaluator.WIN];
+        to[Evaluator.WIN_GAMMON] = from[Evaluator.LOSE_GAMMON];
+        to[Evaluator.WIN_BACKGAMMON] = from[Evaluator.LOSE_BACKGAMMON];
+        to[Evaluator.LOSE_GAMMON] = from[Evaluator.WIN_GAMMON];
+        to[Evaluator.LOSE_BACKGAMMON] = from[Evaluator.WIN_BACKGAMMON];
+    }
+
+    /**
+     * Inserts a play index into an order sorted by descending equity.
+     *
+     * @param order    the indices sorted so far; the first {@code index} entries are filled.
+     * @param equities the equities of the plays.
+     * @param index    the index of the play to insert.
+     */
+    private static void insertByEquity(int[] order, float[] equities, int index) {
+        int position = index;
+        while (position > 0 && equities[order[position - 1]] < equities[index]) {
+            order[position] = order[position - 1];
+            position--;
+        }
+        order[position] = index;
+    }
+
+    /**
+     * Makes sure the per-depth buffers cover the requested depth.
+     *
+     * @param plies the deepest search that will be run.
+     */
+    private void ensureLevels(int plies) {
+        if (plies < 0) {
+            throw new IllegalArgumentException("Search depth must not be negative: " + plies);
+        }
+        if (sums.length > plies) {
+            return;
+        }
+        int levels = plies + 1;
+        sums = new float[levels][Evaluator.OUTPUTS];
+        bests = new float[levels][Evaluator.OUTPUTS];
+        children = new float[levels][Evaluator.OUTPUTS];
+        equities = new float[levels][0];
+        orders = new int[levels][0];
+        bestPlays = new Play[levels];
+    }
+
+    /**
+     * Lists the 21 distinct rolls with how many of the 36 dice combinations produce each.
+     *
+     * @return rows of first die, second die and weight.
+     */
+    private static int[][] distinctRolls() {
+        int[][] rolls = new int[21][];
+        int index = 0;
+        for (int die1 = 1; die1 <= 6; die1++) {
+            for (int die2 = die1; die2 <= 6; die2++) {
+                rolls[index++] = new int[]{die1, die2, die1 == die2 ? 1 : 2};
+            }
+        }
+        return rolls;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+import java.util.Arrays;
+
+import static util.CommonConstants.*;
+
+/**
+ * Evaluator backed by a {@link NeuralNetwork}, using the standard 196-unit input encoding.
+ * <p>
+ * For the side to move and then its opponent, each of the side's points from its ace point to its 24 point gets
+ * four units: one each for at least one, two and three checkers, and (n - 3) / 2 for the checkers beyond three.
+ * Two more units hold the checkers on the bar divided by 2 and the borne-off checkers divided by 15.
+ * Evaluating reuses the evaluator's buffers and does not allocate.
+ */
+public class NeuralEvaluator implements Evaluator {
+    public static final int INPUTS = 2 * (NUMBER_OF_POINTS * 4 + 2);
+
+    private final NeuralNetwork network;
+    private final float[] inputs = new float[INPUTS];
+    private final float[] hidden;
+
+    /**
+     * Creates an evaluator for a network.
+     *
+     * @param network the network; it must take {@link #INPUTS} inputs and produce {@link #OUTPUTS} outputs.
+     */
+    public NeuralEvaluator(NeuralNetwork network) {
+        if (network.getInputCount() != INPUTS || network.getOutputCount() != OUTPUTS) {
+            throw new IllegalArgumentException("Network must have " + INPUTS + " inputs and " + OUTPUTS + " outputs.");
+        }
+        this.network = network;
+        this.hidden = new float[network.getHiddenCount()];
+    }
+
+    @Override
+    public void evaluate(Board board, int side, float[] output) {
+        encode(board, side, inputs);
+        network.forward(inputs, hidden, output);
+    }
+
+    /**
+     * Writes the input encoding of a position.
+     *
+     * @param board  the position.
+     * @param side   the side to move.
+     * @param inputs the array receiving {@link #INPUTS} values.
+     */
+    static void encode(Board board, int side, float[] inputs) {
+        Arrays.fill(inputs, 0);
+        encodeSide(board, side, inputs, 0);
+        encodeSide(board, 1 - side, inputs, INPUTS / 2);
+    }
+
+    /**
+     * Writes the input units of one side.
+     *
+     * @param board  the position.
+     * @param side   the side being encoded.
+     * @param inputs the input array.
+     * @param offset the index of the side's first unit.
+     */
+    private static void encodeSide(Board board, int side, float[] inputs, int offset) {
+        int index = offset;
+        for (int point = 1; point <= NUMBER_OF_POINTS; point++, index += 4) {
+            int count = board.getCheckerCount(side, Math.abs(Move.offSlot(side) - point));
+            if (count > 0) {
+                inputs[index] = 1;
+            }
+            if (count > 1) {
+                inputs[index + 1] = 1;
+            }
+            if (count > 2) {
+                inputs[index + 2] = 1;
+                inputs[index + 3] = (count - 3) / 2f;
+            }
+        }
+        inputs[index] = board.getBarCount(side) / 2f;
+        inputs[index + 1] = board.getBearOffCount(side) / (float) CHECKERS_PER_PLAYER;
+    }
+}
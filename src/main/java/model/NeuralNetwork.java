@@ -0,0 +1,212 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.SplittableRandom;
+
+/**
+ * Feed-forward network with one sigmoid hidden layer and sigmoid outputs.
+ * <p>
+ * Weights are kept in flat {@code float[]} arrays, one row per unit, so each unit is a single dot product over
+ * contiguous memory; {@link DotProduct} runs these with SIMD instructions when the Vector API is available.
+ * The weights are never modified, so one network can be shared by evaluators on many threads.
+ * <p>
+ * The stream format is three big-endian ints (inputs, hidden units, outputs) followed by the hidden weights,
+ * hidden biases, output weights and output biases as big-endian floats.
+ */
+public class NeuralNetwork {
+    private final int inputCount;
+    private final int hiddenCount;
+    private final int outputCount;
+    private final float[] hiddenWeights;
+    private final float[] hiddenBiases;
+    private final float[] outputWeights;
+    private final float[] outputBiases;
+
+    /**
+     * Creates a network from its weights.
+     *
+     * @param inputCount    the number of inputs.
+     * @param hiddenCount   the number of hidden units.
+     * @param outputCount   the number of outputs.
+     * @param hiddenWeights the hidden weights, {@code inputCount} per hidden unit.
+     * @param hiddenBiases  the hidden biases, one per hidden unit.
+     * @param outputWeights the output weights, {@code hiddenCount} per output.
+     * @param outputBiases  the output biases, one per output.
+     */
+    public NeuralNetwork(int inputCount, int hiddenCount, int outputCount, float[] hiddenWeights,
+                         float[] hiddenBiases, float[] outputWeights, float[] outputBiases) {
+        if (inputCount <= 0 || hiddenCount <= 0 || outputCount <= 0
+                || hiddenWeights.length != inputCount * hiddenCount || hiddenBiases.length != hiddenCount
+                || outputWeights.length != hiddenCount * outputCount || outputBiases.length != outputCount) {
+            throw new IllegalArgumentException("Network weights do not match its layer sizes.");
+        }
+        this.inputCount = inputCount;
+        this.hiddenCount = hiddenCount;
+        this.outputCount = outputCount;
+        this.hiddenWeights = hiddenWeights;
+        this.hiddenBiases = hiddenBiases;
+        this.outputWeights = outputWeights;
+        this.outputBiases = outputBiases;
+    }
+
+    /**
+     * Creates a network with small random weights, as a starting point for training.
+     *
+     * @param inputCount  the number of inputs.
+     * @param hiddenCount the number of hidden units.
+     * @param outputCount the number of outputs.
+     * @param seed        the random seed.
+     * @return the network.
+     */
+    public static NeuralNetwork random(int inputCount, int hiddenCount, int outputCount, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        float[] hiddenWeights = randomWeights(inputCount * hiddenCount, inputCount, random);
+        float[] outputWeights = randomWeights(hiddenCount * outputCount, hiddenCount, random);
+        return new NeuralNetwork(inputCount, hiddenCount, outputCount, hiddenWeights, new float[hiddenCount],
+                outputWeights, new float[outputCount]);
+    }
+
+    /**
+     * Reads a network in the stream format described above.
+     *
+     * @param in the stream to read; it is not closed.
+     * @return the network.
+     * @throws IOException if the stream cannot be read.
+     */
+    public static NeuralNetwork read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        int inputCount = data.readInt();
+        int hiddenCount = data.readInt();
+        int outputCount = data.readInt();
+        if (inputCount <= 0 || hiddenCount <= 0 || outputCount <= 0) {
+            throw new IllegalArgumentException("Invalid network layer sizes.");
+        }
+        return new NeuralNetwork(inputCount, hiddenCount, outputCount,
+                readFloats(data, inputCount * hiddenCount), readFloats(data, hiddenCount),
+                readFloats(data, hiddenCount * outputCount), readFloats(data, outputCount));
+    }
+
+    /**
+     * Writes this network in the stream format described above.
+     *
+     * @param out the stream to write; it is flushed but not closed.
+     * @throws IOException if the stream cannot be written.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(inputCount);
+        data.writeInt(hiddenCount);
+        data.writeInt(outputCount);
+        for (float[] values : new float[][]{hiddenWeights, hiddenBiases, outputWeights, outputBiases}) {
+            for (float value : values) {
+                data.writeFloat(value);
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Runs the network.
+     *
+     * @param inputs  the input values.
+     * @param hidden  scratch space for the hidden activations, at least {@link #getHiddenCount()} long.
+     * @param outputs the array receiving the outputs.
+     */
+    public void forward(float[] inputs, float[] hidden, float[] outputs) {
+        for (int unit = 0; unit < hiddenCount; unit++) {
+            hidden[unit] = sigmoid(hiddenBiases[unit] + DotProduct.dot(hiddenWeights, unit * inputCount, inputs, inputCount));
+        }
+        for (int unit = 0; unit < outputCount; unit++) {
+            outputs[unit] = sigmoid(outputBiases[unit] + DotProduct.dot(outputWeights, unit * hiddenCount, hidden, hiddenCount));
+        }
+    }
+
+    /**
+     * Returns the number of inputs.
+     *
+     * @return the input count.
+     */
+    public int getInputCount() {
+        return inputCount;
+    }
+
+    /**
+     * Returns the number of hidden units.
+     *
+     * @return the hidden unit count.
+     */
+    public int getHiddenCount() {
+        return hiddenCount;
+    }
+
+    /**
+     * Returns the number of outputs.
+     *
+     * @return the output count.
+     */
+    public int getOutputCount() {
+        return outputCount;
+    }
+
+    /**
+     * The logistic function.
+     *
+     * @param x the activation.
+     * @return the squashed value, between 0 and 1.
+     */
+    private static float sigmoid(float x) {
+        return (float) (1 / (1 + Math.exp(-x)));
+    }
+
+    /**
+     * Draws uniform weights scaled by the fan-in of the layer.
+     *
+     * @param count  the number of weights.
+     * @param fanIn  the number of inputs feeding each unit.
+     * @param random the random source.
+     * @return the weights.
+     */
+    private static float[] randomWeights(int count, int fanIn, SplittableRandom random) {
+        float scale = (float) (1 / Math.sqrt(fanIn));
+        float[] weights = new float[count];
+        for (int i = 0; i < count; i++) {
+            weights[i] = (float) (random.nextDouble(-1, 1) * scale);
+        }
+        return weights;
+    }
+
+    /**
+     * Reads a run of floats.
+     *
+     * @param data  the stream.
+     * @param count the number of floats.
+     * @return the values.
+     * @throws IOException if the stream cannot be read.
+     */
+    private static float[] readFloats(DataInputStream data, int count) throws IOException {
+        float[] values = new float[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = data.readFloat();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,418 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static util.CommonConstants.*;
+
+/**
+ * One-sided bear-off database: for every way of placing up to 15 checkers on the six home points, the expected
+ * number of turns needed to bear them all off and the full distribution of that number.
+ * <p>
+ * Positions are indexed by the combinatorial number system, giving a dense index from 0 to {@link #POSITIONS}.
+ * Every record holds the expected number of turns as a float, followed by two distributions of {@link #MAX_TURNS}
+ * unsigned 16-bit probabilities: the turn on which the last checker comes off, and the turn on which the first
+ * checker comes off (used for gammon chances). Turns from {@code MAX_TURNS - 1} on are counted in the last entry.
+ * The values assume the play minimizing the expected number of turns.
+ * <p>
+ * A file written by {@link #write(Path)} is opened with {@link #open(Path)}, which maps it into memory so lookups
+ * read straight from the page cache. The database is read-only and can be shared between threads.
+ */
+public class OneSidedBearOff {
+    public static final int POINTS = 6;
+    public static final int MAX_TURNS = 32;
+    public static final int POSITIONS = binomial(CHECKERS_PER_PLAYER + POINTS, POINTS);
+
+    private static final int[] HEADER = {0x42474F31, POINTS, CHECKERS_PER_PLAYER, MAX_TURNS};
+    private static final int DISTRIBUTION_SIZE = MAX_TURNS * Short.BYTES;
+    private static final int RECORD_SIZE = Float.BYTES + 2 * DISTRIBUTION_SIZE;
+    private static final float SCALE = 0xFFFF;
+    private static final int ROLLS = 36;
+
+    private final ByteBuffer data;
+
+    /**
+     * Creates a database over a buffer holding a header and all records.
+     *
+     * @param data the buffer; only read with absolute gets.
+     */
+    private OneSidedBearOff(ByteBuffer data) {
+        this.data = data;
+    }
+
+    /**
+     * Maps a database file into memory.
+     *
+     * @param file the file written by {@link #write(Path)}.
+     * @return the database.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a one-sided bear-off database.
+     */
+    public static OneSidedBearOff open(Path file) throws IOException {
+        long size = BearOffFile.HEADER_SIZE + (long) POSITIONS * RECORD_SIZE;
+        return new OneSidedBearOff(BearOffFile.map(file, HEADER, size, "one-sided bear-off database"));
+    }
+
+    /**
+     * Writes the database to a file that {@link #open(Path)} can map.
+     *
+     * @param file the file to create or replace.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(Path file) throws IOException {
+        BearOffFile.write(file, data);
+    }
+
+    /**
+     * Computes the database. Positions are solved in layers of equal pip count, from the lowest up, so every
+     * position a play can lead to is already solved; the positions of a layer are independent and solved in
+     * parallel. Each roll takes the play with the fewest expected turns.
+     *
+     * @return the database, held in memory.
+     */
+    public static OneSidedBearOff generate() {
+        List<List<int[]>> layers = new ArrayList<>();
+        for (int pips = 0; pips <= CHECKERS_PER_PLAYER * POINTS; pips++) {
+            layers.add(new ArrayList<>());
+        }
+        List<int[]> positions = new ArrayList<>(POSITIONS);
+        enumerate(new int[POINTS], 0, CHECKERS_PER_PLAYER, positions);
+        for (int[] position : positions) {
+            layers.get(pips(position)).add(position);
+        }
+
+        Tables tables = new Tables(positions);
+        ThreadLocal<Solver> solvers = ThreadLocal.withInitial(Solver::new);
+        for (List<int[]> layer : layers) {
+            layer.parallelStream().forEach(position -> solvers.get().solve(position, tables));
+        }
+
+        ByteBuffer data = BearOffFile.allocate(HEADER, BearOffFile.HEADER_SIZE + POSITIONS * RECORD_SIZE);
+        for (int index = 0; index < POSITIONS; index++) {
+            data.putFloat((float) tables.means[index]);
+            putDistribution(data, tables.finished[index]);
+            putDistribution(data, tables.firstOff[index]);
+        }
+        return new OneSidedBearOff(data);
+    }
+
+    /**
+     * Returns the index of a side's home-board position.
+     *
+     * @param board the board; the side should be able to bear off.
+     * @param side  the side.
+     * @return the index, from 0 to {@link #POSITIONS}.
+     */
+    public static int index(Board board, int side) {
+        return index(board, side, new int[POINTS]);
+    }
+
+    /**
+     * Returns the index of a home-board position.
+     *
+     * @param counts the checkers on the side's 1-point to 6-point; 15 or fewer in total.
+     * @return the index, from 0 to {@link #POSITIONS}.
+     */
+    public static int index(int[] counts) {
+        int index = 0;
+        int separator = 0;
+        for (int point = 0; point < POINTS; point++) {
+            separator += counts[point];
+            index += binomial(separator + point, point + 1);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the expected number of turns to bear off all checkers of a side, with that side on roll.
+     *
+     * @param index the position index.
+     * @return the expected number of turns.
+     */
+    public float getExpectedTurns(int index) {
+        return data.getFloat(offset(index));
+    }
+
+    /**
+     * Returns the probabilities that the last checker comes off on each turn.
+     *
+     * @param index  the position index.
+     * @param output the array receiving {@link #MAX_TURNS} probabilities.
+     */
+    public void getTurnDistribution(int index, float[] output) {
+        readDistribution(offset(index) + Float.BYTES, output);
+    }
+
+    /**
+     * Returns the probabilities that the first checker comes off on each turn.
+     *
+     * @param index  the position index.
+     * @param output the array receiving {@link #MAX_TURNS} probabilities.
+     */
+    public void getFirstOffDistribution(int index, float[] output) {
+        readDistribution(offset(index) + Float.BYTES + DISTRIBUTION_SIZE, output);
+    }
+
+    /**
+     * Generates a database file.
+     *
+     * @param args the path of the file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.out.println("Usage: java model.OneSidedBearOff <file>");
+            return;
+        }
+        generate().write(Path.of(args[0]));
+    }
+
+    /**
+     * Reads a side's home-board checker counts and returns their index.
+     *
+     * @param board  the board.
+     * @param side   the side.
+     * @param counts the array receiving the counts of the 1-point to 6-point.
+     * @return the index.
+     */
+    private static int index(Board board, int side, int[] counts) {
+        for (int point = 0; point < POINTS; point++) {
+            counts[point] = board.getCheckerCount(side, Math.abs(Move.offSlot(side) - (point + 1)));
+        }
+        return index(counts);
+    }
+
+    /**
+     * Returns the Player 1 slot of a home point.
+     *
+     * @param point the point, 0 for the 1-point.
+     * @return the slot index.
+     */
+    private static int slot(int point) {
+        return Move.offSlot(PLAYER_1_SIDE) - (point + 1);
+    }
+
+    /**
+     * Lists every home-board position with at most the given number of checkers.
+     *
+     * @param counts    the counts filled in so far.
+     * @param point     the next point to fill.
+     * @param remaining the checkers still available.
+     * @param positions the list receiving copies of the positions.
+     */
+    static void enumerate(int[] counts, int point, int remaining, List<int[]> positions) {
+        if (point == POINTS) {
+            positions.add(counts.clone());
+            return;
+        }
+        for (int count = 0; count <= remaining; count++) {
+            counts[point] = count;
+            enumerate(counts, point + 1, remaining - count, positions);
+        }
+        counts[point] = 0;
+    }
+
+    /**
+     * Adds a distribution, delayed by one turn and scaled, to another.
+     *
+     * @param target the distribution receiving the values.
+     * @param source the distribution one turn later.
+     * @param weight the probability of reaching the source.
+     */
+    private static void addShifted(double[] target, double[] source, double weight) {
+        for (int turn = 0; turn < MAX_TURNS; turn++) {
+            target[Math.min(turn + 1, MAX_TURNS - 1)] += weight * source[turn];
+        }
+    }
+
+    /**
+     * Writes a distribution as 16-bit fixed-point probabilities.
+     *
+     * @param data         the buffer.
+     * @param distribution the probabilities.
+     */
+    private static void putDistribution(ByteBuffer data, double[] distribution) {
+        for (double probability : distribution) {
+            data.putShort((short) Math.round(Math.min(probability, 1) * SCALE));
+        }
+    }
+
+    /**
+     * Reads a distribution stored by {@link #putDistribution(ByteBuffer, double[])}.
+     *
+     * @param offset the byte offset of the distribution.
+     * @param output the array receiving the probabilities.
+     */
+    private void readDistribution(int offset, float[] output) {
+        for (int turn = 0; turn < MAX_TURNS; turn++) {
+            output[turn] = Short.toUnsignedInt(data.getShort(offset + turn * Short.BYTES)) / SCALE;
+        }
+    }
+
+    /**
+     * Returns the byte offset of a record.
+     *
+     * @param index the position index.
+     * @return the offset.
+     */
+    private static int offset(int index) {
+        return BearOffFile.HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    /**
+     * Returns the number of checkers in a position.
+     *
+     * @param counts the checker counts.
+     * @return the sum of the counts.
+     */
+    private static int total(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the pip count of a position.
+     *
+     * @param counts the checker counts.
+     * @return the pips needed to bear off every checker.
+     */
+    static int pips(int[] counts) {
+        int pips = 0;
+        for (int point = 0; point < POINTS; point++) {
+            pips += (point + 1) * counts[point];
+        }
+        return pips;
+    }
+
+    /**
+     * Computes a binomial coefficient.
+     *
+     * @param n the set size.
+     * @param k the subset size.
+     * @return n choose k, or 0 if k exceeds n.
+     */
+    static int binomial(int n, int k) {
+        if (k > n) {
+            return 0;
+        }
+        long result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return (int) result;
+    }
+
+    /**
+     * The values computed so far, indexed by position.
+     */
+    private static final class Tables {
+        private final int[] totals = new int[POSITIONS];
+        private final double[] means = new double[POSITIONS];
+        private final double[][] finished = new double[POSITIONS][];
+        private final double[][] firstOff = new double[POSITIONS][];
+
+        /**
+         * Creates the tables and records the number of checkers of every position.
+         *
+         * @param positions every position.
+         */
+        Tables(List<int[]> positions) {
+            for (int[] position : positions) {
+                totals[index(position)] = total(position);
+            }
+        }
+    }
+
+    /**
+     * Per-thread scratch state for solving positions.
+     */
+    private static final class Solver {
+        private final Board board = new Board(new Player("Player 1"), new Player("Player 2"));
+        private final PlayGenerator generator = new PlayGenerator();
+        private final int[] slots = new int[NUMBER_OF_POINTS + 2];
+        private final int[] counts = new int[POINTS];
+
+        /**
+         * Solves one position. Every position with fewer pips must already be solved.
+         *
+         * @param position the checker counts.
+         * @param tables   the tables to read from and write the result to.
+         */
+        void solve(int[] position, Tables tables) {
+            int index = index(position);
+            int checkers = tables.totals[index];
+            double[] finish = new double[MAX_TURNS];
+            double[] first = new double[MAX_TURNS];
+            double mean = 0;
+            if (checkers == 0) {
+                finish[0] = 1;
+                first[0] = 1;
+            } else {
+                for (int point = 0; point < POINTS; point++) {
+                    slots[slot(point)] = position[point];
+                }
+                board.setPosition(slots, CHECKERS_PER_PLAYER - checkers, CHECKERS_PER_PLAYER);
+                for (int die1 = 1; die1 <= MAXIMUM_DICE_VALUE; die1++) {
+                    for (int die2 = die1; die2 <= MAXIMUM_DICE_VALUE; die2++) {
+                        double weight = (die1 == die2 ? 1.0 : 2.0) / ROLLS;
+                        int best = bestPlay(die1, die2, tables.means);
+                        mean += weight * tables.means[best];
+                        addShifted(finish, tables.finished[best], weight);
+                        if (tables.totals[best] < checkers) {
+                            first[1] += weight;
+                        } else {
+                            addShifted(first, tables.firstOff[best], weight);
+                        }
+                    }
+                }
+                mean += 1;
+            }
+            tables.means[index] = mean;
+            tables.finished[index] = finish;
+            tables.firstOff[index] = first;
+        }
+
+        /**
+         * Finds the play leaving the fewest expected turns for a roll in the position on the board.
+         *
+         * @param die1  the first die.
+         * @param die2  the second die.
+         * @param means the expected turns of the solved positions.
+         * @return the index of the position after the best play.
+         */
+        private int bestPlay(int die1, int die2, double[] means) {
+            int best = -1;
+            for (Play play : generator.generate(board, PLAYER_1_SIDE, die1, die2)) {
+                play.apply(board);
+                int next = index(board, PLAYER_1_SIDE, counts);
+                play.undo(board);
+                if (best < 0 || means[next] < means[best]) {
+                    best = next;
+                }
+            }
+            return best;
+        }
+    }
+}
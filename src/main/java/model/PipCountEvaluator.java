@@ -0,0 +1,37 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+/**
+ * Rough evaluator that turns the pip count lead into a winning chance and ignores gammons. It needs no weights,
+ * so it serves as the fallback when no trained network is available.
+ */
+public class PipCountEvaluator implements Evaluator {
+    private static final float ON_ROLL_BONUS = 4;
+    private static final float LEAD_SCALE = 8;
+
+    @Override
+    public void evaluate(Board board, int side, float[] output) {
+        int own = board.getPipCount(side);
+        int opponent = board.getPipCount(1 - side);
+        float lead = (opponent - own + ON_ROLL_BONUS) / Math.max(own + opponent, 1);
+        output[WIN] = (float) (1 / (1 + Math.exp(-LEAD_SCALE * lead)));
+        output[WIN_GAMMON] = 0;
+        output[WIN_BACKGAMMON] = 0;
+        output[LOSE_GAMMON] = 0;
+        output[LOSE_BACKGAMMON] = 0;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+/**
+ * A complete play for one roll: the sequence of single-checker moves a side makes in a turn.
+ * Moves are stored as the undo tokens produced while generating the play, so the play can be applied to and
+ * taken back from the position it was generated for.
+ */
+public class Play {
+    private final int[] moves;
+
+    /**
+     * Creates a play from packed moves.
+     *
+     * @param moves the packed moves, in the order they are played.
+     */
+    public Play(int[] moves) {
+        this.moves = moves;
+    }
+
+    /**
+     * Returns the number of checker moves in the play.
+     *
+     * @return the number of moves; zero when no move was possible.
+     */
+    public int size() {
+        return moves.length;
+    }
+
+    /**
+     * Returns one of the packed moves of the play.
+     *
+     * @param index the index of the move.
+     * @return the packed move.
+     */
+    public int getMove(int index) {
+        return moves[index];
+    }
+
+    /**
+     * Formats the play for display, e.g. {@code "13 -> 8, 8 -> 5"}.
+     *
+     * @return the moves as text, or {@code "no move"} for an empty play.
+     */
+    @Override
+    public String toString() {
+        if (moves.length == 0) {
+            return "no move";
+        }
+        StringBuilder text = new StringBuilder();
+        for (int move : moves) {
+            if (!text.isEmpty()) {
+                text.append(", ");
+            }
+            text.append(Move.format(move));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Plays every move of this play on the board.
+     *
+     * @param board the board, in the position the play was generated for.
+     */
+    public void apply(Board board) {
+        for (int move : moves) {
+            board.apply(move);
+        }
+    }
+
+    /**
+     * Takes back every move of this play, in reverse order.
+     *
+     * @param board the board the play was applied to.
+     */
+    public void undo(Board board) {
+        for (int i = moves.length - 1; i >= 0; i--) {
+            board.undo(moves[i]);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fixed-size cache of the legal plays for a position and roll, safe to share between threads.
+ * <p>
+ * A {@link PlayGenerator} created with a cache stores every list of plays it generates here and answers repeated
+ * requests for the same position, side and dice from it, which pays off for the opening and early-game positions
+ * that recur across self-play games and rollout trials. Cached lists are unmodifiable; their plays hold the undo
+ * tokens of the position they were generated for, which are the same wherever that position occurs.
+ * <p>
+ * Memory is bounded by the number of entries. Eviction and locking follow {@link ClockCache}.
+ */
+public class PlayCache extends ClockCache {
+    /**
+     * Number of entries of a cache created without an explicit capacity.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+
+    private static final long[] SIDE_KEYS = {0x2545F4914F6CDD1DL, 0x9E6C63D0676A9A99L};
+
+    private final Object[] plays;
+
+    /**
+     * Creates a cache holding {@value #DEFAULT_CAPACITY} entries.
+     */
+    public PlayCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity the least number of play lists to hold; rounded up to a power of two.
+     */
+    public PlayCache(int capacity) {
+        super(capacity);
+        this.plays = new Object[getCapacity()];
+    }
+
+    /**
+     * Returns the cache key of a position, side to move and dice to play.
+     *
+     * @param board the position.
+     * @param side  the side to move.
+     * @param high  the higher die value.
+     * @param low   the lower die value.
+     * @param count the number of dice to play.
+     * @return the 64-bit key.
+     */
+    static long key(Board board, int side, int high, int low, int count) {
+        long roll = ((long) high * 8 + low) * 8 + count;
+        long mixed = roll * 0x9E3779B97F4A7C15L;
+        mixed = (mixed ^ (mixed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+        return board.hash() ^ SIDE_KEYS[side] ^ mixed ^ (mixed >>> 31);
+    }
+
+    /**
+     * Looks up the plays for a key.
+     *
+     * @param key the key from {@link #key(Board, int, int, int, int)}.
+     * @return the cached plays, or null if the key is not cached.
+     */
+    @SuppressWarnings("unchecked")
+    List<Play> get(long key) {
+        synchronized (lock(key)) {
+            int entry = find(key);
+            return entry < 0 ? null : (List<Play>) plays[entry];
+        }
+    }
+
+    /**
+     * Stores the plays for a key, replacing any entry for the same key or evicting one from a full bucket.
+     *
+     * @param key    the key from {@link #key(Board, int, int, int, int)}.
+     * @param result the plays to store; must be unmodifiable.
+     */
+    void put(long key, List<Play> result) {
+        synchronized (lock(key)) {
+            plays[claim(key)] = result;
+        }
+    }
+
+    /**
+     * Drops the cached play lists of cleared entries so that they can be collected.
+     *
+     * @param from the first entry index.
+     * @param to   the entry index after the last.
+     */
+    @Override
+    void clearEntries(int from, int to) {
+        Arrays.fill(plays, from, to, null);
+    }
+}
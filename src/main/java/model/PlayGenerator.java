@@ -0,0 +1,248 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static util.CommonConstants.*;
+
+/**
+ * Enumerates the complete legal plays for a roll.
+ * <p>
+ * Plays are generated by walking the board in place with {@link Board#apply(int)} and {@link Board#undo(int)}.
+ * Only plays that use the largest possible number of dice are kept, and when only one die of a non-double roll
+ * can be used, the higher die must be played if it can be. Plays leading to the same resulting position, as
+ * identified by {@link Board#hash()}, are reported once. A generator reuses its buffers between calls and must not be shared between threads.
+ * <p>
+ * A generator created with a {@link PlayCache} looks every request up in the cache first and stores what it
+ * generates, so the returned lists are then shared and unmodifiable. The cache itself may be shared by generators
+ * on many threads.
+ */
+public class PlayGenerator {
+    private static final int MAX_MOVES = 4;
+
+    private final int[] dice = new int[MAX_MOVES];
+    private final int[] stack = new int[MAX_MOVES];
+    private final List<Play> plays = new ArrayList<>();
+    private final Set<Long> seen = new HashSet<>();
+    private final PlayCache cache;
+    private int[] playDice = new int[16];
+
+    private Board board;
+    private int side;
+    private int diceCount;
+    private boolean doubles;
+    private int mostMoves;
+
+    /**
+     * Creates a generator that computes every request.
+     */
+    public PlayGenerator() {
+        this(null);
+    }
+
+    /**
+     * Creates a generator that serves repeated requests from a cache.
+     *
+     * @param cache the cache of generated plays, or null to compute every request.
+     */
+    public PlayGenerator(PlayCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Generates every distinct legal play for a roll.
+     *
+     * @param board the board to move on; it is left unchanged.
+     * @param side  the side to move.
+     * @param die1  the value of the first die.
+     * @param die2  the value of the second die.
+     * @return the legal plays; a single empty play when the roll cannot be played at all.
+     */
+    public List<Play> generate(Board board, int side, int die1, int die2) {
+        return generate(board, side, Math.max(die1, die2), Math.min(die1, die2), die1 == die2 ? MAX_MOVES : 2);
+    }
+
+    /**
+     * Generates every distinct legal play for the dice still unused in a partly played roll.
+     *
+     * @param board     the board to move on; it is left unchanged.
+     * @param side      the side to move.
+     * @param remaining the dice of the roll; entries of 0 are treated as already used.
+     * @return the legal plays; a single empty play when no remaining die can be played.
+     */
+    public List<Play> generate(Board board, int side, int[] remaining) {
+        int count = 0;
+        int high = 0;
+        int low = MAXIMUM_DICE_VALUE;
+        for (int die : remaining) {
+            if (die != 0) {
+                count++;
+                high = Math.max(high, die);
+                low = Math.min(low, die);
+            }
+        }
+        if (count == 0) {
+            List<Play> result = new ArrayList<>();
+            result.add(new Play(new int[0]));
+            return result;
+        }
+        return generate(board, side, high, low, high == low ? count : 2);
+    }
+
+    /**
+     * Returns the legal plays for one or two die values from the cache, generating and caching them on a miss.
+     *
+     * @param board the board to move on; it is left unchanged.
+     * @param side  the side to move.
+     * @param high  the higher die value.
+     * @param low   the lower die value; equal to {@code high} for doubles or a single die.
+     * @param count the number of dice to play.
+     * @return the legal plays.
+     */
+    private List<Play> generate(Board board, int side, int high, int low, int count) {
+        if (cache == null) {
+            return generatePlays(board, side, high, low, count);
+        }
+        long key = PlayCache.key(board, side, high, low, count);
+        List<Play> result = cache.get(key);
+        if (result == null) {
+            result = List.copyOf(generatePlays(board, side, high, low, count));
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Generates every distinct legal play for one or two die values.
+     *
+     * @param board the board to move on; it is left unchanged.
+     * @param side  the side to move.
+     * @param high  the higher die value.
+     * @param low   the lower die value; equal to {@code high} for doubles or a single die.
+     * @param count the number of dice to play.
+     * @return the legal plays.
+     */
+    private List<Play> generatePlays(Board board, int side, int high, int low, int count) {
+        this.board = board;
+        this.side = side;
+        plays.clear();
+        seen.clear();
+        mostMoves = 0;
+
+        diceCount = count;
+        doubles = high == low;
+        if (doubles) {
+            Arrays.fill(dice, high);
+            search(0, 0);
+        } else {
+            dice[0] = high;
+            dice[1] = low;
+            search(0, 0);
+            dice[0] = low;
+            dice[1] = high;
+            search(0, 0);
+        }
+
+        if (mostMoves == 1 && !doubles) {
+            keepHigherDiePlays(high);
+        }
+
+        List<Play> result = new ArrayList<>(plays);
+        this.board = null;
+        return result;
+    }
+
+    /**
+     * Recursively plays the remaining dice, recording a play whenever no further die can be used.
+     *
+     * @param depth     the number of dice already played.
+     * @param startRank when all dice are equal, the rearmost slot (in travel order) the next checker may leave from.
+     */
+    private void search(int depth, int startRank) {
+        boolean moved = false;
+        if (depth < diceCount) {
+            int die = dice[depth];
+            for (int rank = doubles ? startRank : 0; rank <= NUMBER_OF_POINTS; rank++) {
+                int from = side == PLAYER_1_SIDE ? rank : PLAYER_1_BEAR_OFF_POSITION - rank;
+                int to = board.getMoveTarget(side, from, die);
+                if (to == Board.ILLEGAL_TARGET) {
+                    continue;
+                }
+                moved = true;
+                int token = board.apply(Move.of(side, from, to, die));
+                stack[depth] = token;
+                search(depth + 1, rank);
+                board.undo(token);
+            }
+        }
+        if (!moved) {
+            record(depth);
+        }
+    }
+
+    /**
+     * Records the moves on the stack as a play if it uses at least as many dice as any play seen so far and
+     * leads to a position not already recorded.
+     *
+     * @param depth the number of moves on the stack.
+     */
+    private void record(int depth) {
+        if (depth < mostMoves) {
+            return;
+        }
+        if (depth > mostMoves) {
+            mostMoves = depth;
+            plays.clear();
+            seen.clear();
+        }
+
+        if (!seen.add(board.hash())) {
+            return;
+        }
+        if (plays.size() == playDice.length) {
+            playDice = Arrays.copyOf(playDice, playDice.length * 2);
+        }
+        playDice[plays.size()] = dice[0];
+        plays.add(new Play(Arrays.copyOf(stack, depth)));
+    }
+
+    /**
+     * Drops single-move plays made with the lower die when the higher die can be played.
+     *
+     * @param high the higher die of the roll.
+     */
+    private void keepHigherDiePlays(int high) {
+        boolean highPlayable = false;
+        for (int i = 0; i < plays.size(); i++) {
+            highPlayable |= playDice[i] == high;
+        }
+        if (!highPlayable) {
+            return;
+        }
+        int kept = 0;
+        for (int i = 0; i < plays.size(); i++) {
+            if (playDice[i] == high) {
+                plays.set(kept++, plays.get(i));
+            }
+        }
+        plays.subList(kept, plays.size()).clear();
+    }
+}
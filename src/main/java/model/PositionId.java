@@ -0,0 +1,132 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+import java.util.Base64;
+
+import static util.CommonConstants.*;
+
+/**
+ * Encodes and decodes positions in the standard 14-character position ID format.
+ * <p>
+ * The ID is an 80-bit key written with the base64 alphabet. For the side on roll and then its opponent, each
+ * point is visited from that side's ace point (1) up to its 24 point, followed by its bar; every checker on the
+ * point adds a 1 bit and the point is closed with a 0 bit. Bits fill each byte from the least significant end.
+ * Borne-off checkers are not stored: they are whatever is missing from the side's 15.
+ */
+public final class PositionId {
+    private static final int KEY_BITS = 80;
+    private static final int KEY_BYTES = KEY_BITS / 8;
+    private static final int BAR_POINT = NUMBER_OF_POINTS + 1;
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private PositionId() {
+    }
+
+    /**
+     * Encodes a position as seen by the side on roll.
+     *
+     * @param board      the board to encode.
+     * @param sideOnRoll the side to move.
+     * @return the 14-character position ID.
+     * @throws IllegalArgumentException if a side has more than 15 checkers on the board and bar.
+     */
+    public static String encode(Board board, int sideOnRoll) {
+        byte[] key = new byte[KEY_BYTES];
+        int bit = addSide(board, sideOnRoll, key, 0);
+        addSide(board, 1 - sideOnRoll, key, bit);
+        return ENCODER.encodeToString(key);
+    }
+
+    /**
+     * Replaces the position on the board with the one described by a position ID.
+     *
+     * @param positionId the 14-character position ID.
+     * @param board      the board to set up.
+     * @param sideOnRoll the side the ID was encoded for.
+     * @throws IllegalArgumentException if the ID is malformed or does not describe a legal position.
+     */
+    public static void decode(String positionId, Board board, int sideOnRoll) {
+        byte[] key = DECODER.decode(positionId);
+        if (key.length != KEY_BYTES) {
+            throw new IllegalArgumentException("Invalid position ID: " + positionId);
+        }
+
+        int[] slots = new int[NUMBER_OF_POINTS + 2];
+        int[] off = {CHECKERS_PER_PLAYER, CHECKERS_PER_PLAYER};
+        int side = sideOnRoll;
+        int point = 1;
+        for (int bit = 0; bit < KEY_BITS; bit++) {
+            if ((key[bit >>> 3] & (1 << (bit & 7))) == 0) {
+                if (++point <= BAR_POINT) {
+                    continue;
+                }
+                if (side != sideOnRoll) {
+                    break;
+                }
+                side = 1 - side;
+                point = 1;
+                continue;
+            }
+
+            int slot = slotOf(side, point);
+            int sign = side == PLAYER_1_SIDE ? 1 : -1;
+            if (slots[slot] * sign < 0 || --off[side] < 0) {
+                throw new IllegalArgumentException("Invalid position ID: " + positionId);
+            }
+            slots[slot] += sign;
+        }
+
+        board.setPosition(slots, off[PLAYER_1_SIDE], off[PLAYER_2_SIDE]);
+    }
+
+    /**
+     * Appends the bits of one side's checkers to the key.
+     *
+     * @param board the board being encoded.
+     * @param side  the side whose checkers are written.
+     * @param key   the key being filled.
+     * @param bit   the index of the next bit to write.
+     * @return the index of the bit following this side's checkers.
+     */
+    private static int addSide(Board board, int side, byte[] key, int bit) {
+        int checkers = 0;
+        for (int point = 1; point <= BAR_POINT; point++) {
+            int count = board.getCheckerCount(side, slotOf(side, point));
+            checkers += count;
+            if (checkers > CHECKERS_PER_PLAYER) {
+                throw new IllegalArgumentException("Too many checkers to encode a position ID.");
+            }
+            for (int i = 0; i < count; i++, bit++) {
+                key[bit >>> 3] |= (byte) (1 << (bit & 7));
+            }
+            bit++;
+        }
+        return bit;
+    }
+
+    /**
+     * Maps a point counted from a side's own ace point to the board slot; point 25 is the side's bar.
+     *
+     * @param side  the side index.
+     * @param point the point in that side's numbering (1-25).
+     * @return the board slot.
+     */
+    private static int slotOf(int side, int point) {
+        return Math.abs(Move.offSlot(side) - point);
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static util.CommonConstants.MAXIMUM_DICE_VALUE;
+import static util.CommonConstants.MINIMUM_DICE_VALUE;
+
+/**
+ * Dice source that replays a recorded sequence of dice, e.g. to reproduce a game or to feed a simulation with a
+ * fixed set of rolls.
+ */
+public class ReplayDiceSource implements DiceSource {
+    private final byte[] dice;
+    private int position;
+
+    /**
+     * Creates a source replaying the given dice.
+     *
+     * @param dice the die values, in the order they are rolled.
+     * @throws IllegalArgumentException if a value is not between 1 and 6.
+     */
+    public ReplayDiceSource(int... dice) {
+        this.dice = new byte[dice.length];
+        for (int i = 0; i < dice.length; i++) {
+            if (dice[i] < MINIMUM_DICE_VALUE || dice[i] > MAXIMUM_DICE_VALUE) {
+                throw new IllegalArgumentException("Dice values must be between 1 and 6: " + dice[i]);
+            }
+            this.dice[i] = (byte) dice[i];
+        }
+    }
+
+    /**
+     * Reads dice from a text file. Every digit from 1 to 6 is one die; whitespace and commas separate them and
+     * {@code #} starts a comment running to the end of the line, so a file may hold one roll per line, e.g.
+     * {@code "3 1"}.
+     *
+     * @param file the file to read.
+     * @return the source replaying the file.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file contains anything else.
+     */
+    public static ReplayDiceSource read(Path file) throws IOException {
+        String text = Files.readString(file);
+        int[] dice = new int[text.length()];
+        int count = 0;
+        boolean comment = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                comment = false;
+            } else if (comment || c == ',' || Character.isWhitespace(c)) {
+                continue;
+            } else if (c == '#') {
+                comment = true;
+            } else if (c >= '0' + MINIMUM_DICE_VALUE && c <= '0' + MAXIMUM_DICE_VALUE) {
+                dice[count++] = c - '0';
+            } else {
+                throw new IllegalArgumentException("Invalid die '" + c + "' in " + file);
+            }
+        }
+        return new ReplayDiceSource(Arrays.copyOf(dice, count));
+    }
+
+    @Override
+    public int roll() {
+        if (position == dice.length) {
+            throw new IllegalStateException("All " + dice.length + " recorded dice have been replayed.");
+        }
+        return dice[position++];
+    }
+
+    /**
+     * Returns how many recorded dice are left.
+     *
+     * @return the number of dice not yet rolled.
+     */
+    public int remaining() {
+        return dice.length - position;
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+/**
+ * The outcome of an {@link NPlySearch}: the chosen play, its evaluation and how much work the search did.
+ */
+public class SearchResult {
+    private final Play play;
+    private final float[] output;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a search result.
+     *
+     * @param play         the best play found.
+     * @param output       the evaluation of the play from the mover's point of view.
+     * @param depth        the deepest search depth that completed, in plies.
+     * @param nodes        the number of positions evaluated.
+     * @param elapsedNanos the time the search took, in nanoseconds.
+     */
+    public SearchResult(Play play, float[] output, int depth, long nodes, long elapsedNanos) {
+        this.play = play;
+        this.output = output.clone();
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the best play found.
+     *
+     * @return the play.
+     */
+    public Play getPlay() {
+        return play;
+    }
+
+    /**
+     * Returns the probability estimates for the chosen play.
+     *
+     * @return a copy of the {@link Evaluator#OUTPUTS} probabilities.
+     */
+    public float[] getOutput() {
+        return output.clone();
+    }
+
+    /**
+     * Returns the cubeless equity of the chosen play for the side that makes it.
+     *
+     * @return the equity.
+     */
+    public float getEquity() {
+        return Evaluator.equity(output);
+    }
+
+    /**
+     * Returns the deepest search depth that completed within the budget.
+     *
+     * @return the depth in plies.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the number of positions the search evaluated.
+     *
+     * @return the node count.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns how long the search took.
+     *
+     * @return the elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the search speed.
+     *
+     * @return the nodes evaluated per second.
+     */
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Formats the result for display.
+     *
+     * @return the play, equity, depth and search speed as text.
+     */
+    @Override
+    public String toString() {
+        return String.format("%s (equity %+.3f, %d-ply, %d nodes, %.0f nodes/s)",
+                play, getEquity(), depth, nodes, getNodesPerSecond());
+    }
+}
@@ -0,0 +1,223 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size table of searched positions for multi-ply lookahead, safe to share between threads without locks.
+ * <p>
+ * An entry holds the search depth and the five output probabilities of a position with a side to move, packed
+ * into one {@code long} as a 4-bit depth and five 12-bit probabilities. The table is a power-of-two array of
+ * buckets with two entries: the first keeps the deepest result seen for its positions and is only replaced by a
+ * result at least as deep, the second always takes the newest result. Entries are written without locks as the
+ * pair {@code (key ^ data, data)}; a read whose halves come from different writes fails the XOR check and counts
+ * as a miss, so a torn entry is never returned.
+ */
+public class TranspositionTable {
+    /**
+     * Deepest search depth an entry can record.
+     */
+    public static final int MAX_DEPTH = 15;
+
+    private static final int DEPTH_BITS = 4;
+    private static final int PROBABILITY_BITS = 12;
+    private static final int PROBABILITY_SCALE = (1 << PROBABILITY_BITS) - 1;
+    private static final int ENTRY_LONGS = 2;
+    private static final int BUCKET_LONGS = 2 * ENTRY_LONGS;
+
+    private final long[] table;
+    private final int bucketMask;
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+
+    /**
+     * Creates a table.
+     *
+     * @param capacity the least number of entries to hold; rounded up to a power of two.
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Table capacity must be positive: " + capacity);
+        }
+        int buckets = Math.max(1, Integer.highestOneBit(capacity * 2 - 1) / 2);
+        this.bucketMask = buckets - 1;
+        this.table = new long[buckets * BUCKET_LONGS];
+    }
+
+    /**
+     * Returns the key of a position with a side to move.
+     *
+     * @param board the position.
+     * @param side  the side to move.
+     * @return the 64-bit key.
+     */
+    public static long key(Board board, int side) {
+        return EvaluationCache.key(board, side);
+    }
+
+    /**
+     * Looks up a position searched at least as deep as required.
+     *
+     * @param key    the key from {@link #key(Board, int)}.
+     * @param depth  the least depth the caller accepts.
+     * @param output the array receiving the stored probabilities on a hit.
+     * @return true on a hit; false otherwise, leaving the output unchanged.
+     */
+    public boolean probe(long key, int depth, float[] output) {
+        probes.increment();
+        int first = bucket(key);
+        boolean occupied = false;
+        for (int entry = first; entry < first + BUCKET_LONGS; entry += ENTRY_LONGS) {
+            long data = table[entry + 1];
+            if (data == 0) {
+                continue;
+            }
+            if ((table[entry] ^ data) != key) {
+                occupied = true;
+                continue;
+            }
+            if (depth(data) < depth) {
+                continue;
+            }
+            unpack(data, output);
+            hits.increment();
+            return true;
+        }
+        if (occupied) {
+            collisions.increment();
+        }
+        return false;
+    }
+
+    /**
+     * Stores a search result. The deep entry of the bucket takes it if it is at least as deep as what that entry
+     * holds; otherwise the newest entry does.
+     *
+     * @param key    the key from {@link #key(Board, int)}.
+     * @param depth  the depth the result was searched to, between 1 and {@value #MAX_DEPTH}.
+     * @param output the probabilities, from the point of view of the side to move.
+     */
+    public void store(long key, int depth, float[] output) {
+        if (depth < 1 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Depth out of range: " + depth);
+        }
+        long data = pack(depth, output);
+        int deep = bucket(key);
+        long stored = table[deep + 1];
+        int entry = stored == 0 || depth >= depth(stored) ? deep : deep + ENTRY_LONGS;
+        table[entry] = key ^ data;
+        table[entry + 1] = data;
+    }
+
+    /**
+     * Removes every entry and resets the counters. Must not run concurrently with other calls.
+     */
+    public void clear() {
+        Arrays.fill(table, 0);
+        probes.reset();
+        hits.reset();
+        collisions.reset();
+    }
+
+    /**
+     * Returns the number of entries the table can hold.
+     *
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        return table.length / ENTRY_LONGS;
+    }
+
+    /**
+     * Returns the number of lookups.
+     *
+     * @return the probe count.
+     */
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found a deep enough entry.
+     *
+     * @return the hit count.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found their bucket holding only other positions.
+     *
+     * @return the collision count.
+     */
+    public long getCollisions() {
+        return collisions.sum();
+    }
+
+    /**
+     * Packs a depth and probabilities into an entry.
+     *
+     * @param depth  the search depth.
+     * @param output the probabilities.
+     * @return the packed entry; never 0.
+     */
+    private static long pack(int depth, float[] output) {
+        long data = depth;
+        for (int i = 0; i < Evaluator.OUTPUTS; i++) {
+            long quantized = Math.round(Math.min(Math.max(output[i], 0), 1) * PROBABILITY_SCALE);
+            data |= quantized << (DEPTH_BITS + i * PROBABILITY_BITS);
+        }
+        return data;
+    }
+
+    /**
+     * Unpacks the probabilities of an entry.
+     *
+     * @param data   the packed entry.
+     * @param output the array receiving the probabilities.
+     */
+    private static void unpack(long data, float[] output) {
+        for (int i = 0; i < Evaluator.OUTPUTS; i++) {
+            long quantized = (data >>> (DEPTH_BITS + i * PROBABILITY_BITS)) & PROBABILITY_SCALE;
+            output[i] = (float) quantized / PROBABILITY_SCALE;
+        }
+    }
+
+    /**
+     * Returns the depth of a packed entry.
+     *
+     * @param data the packed entry.
+     * @return the depth.
+     */
+    private static int depth(long data) {
+        return (int) (data & ((1 << DEPTH_BITS) - 1));
+    }
+
+    /**
+     * Maps a key to the first array index of its bucket.
+     *
+     * @param key the key.
+     * @return the array index.
+     */
+    private int bucket(long key) {
+        return ((int) (key ^ (key >>> 32)) & bucketMask) * BUCKET_LONGS;
+    }
+}
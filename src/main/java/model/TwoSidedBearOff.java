@@ -0,0 +1,291 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import enums.CubeOwnership;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static util.CommonConstants.*;
+
+/**
+ * Two-sided bear-off database: exact money equities for every race where both sides have at most
+ * {@value #MAX_CHECKERS} checkers left, all in their home boards.
+ * <p>
+ * An entry is addressed by the one-sided indexes of the two home boards, side on roll first, so the index is
+ * {@code own * SIDE_POSITIONS + opponent} and needs no search. Each entry holds four equities for the side on roll,
+ * as signed 16-bit fixed point in units of the cube value: cubeless, and cubeful with the cube centered, owned by
+ * the side on roll and owned by the opponent. Cubeful equities assume money play with optimal doubles and takes;
+ * every equity assumes the play that maximizes it. Gammons are impossible with so few checkers left.
+ * <p>
+ * Entries depend only on entries with fewer pips in total, so they are computed in layers of equal total pip count,
+ * each layer in parallel. Like {@link OneSidedBearOff}, the file is mapped into memory for lookups and the
+ * database can be shared between threads.
+ */
+public class TwoSidedBearOff {
+    public static final int MAX_CHECKERS = 6;
+    public static final int SIDE_POSITIONS =
+            OneSidedBearOff.binomial(MAX_CHECKERS + OneSidedBearOff.POINTS, OneSidedBearOff.POINTS);
+    public static final int ENTRIES = SIDE_POSITIONS * SIDE_POSITIONS;
+
+    private static final int CUBELESS = 0;
+    private static final int VALUES = 1 + CubeOwnership.values().length;
+    private static final int[] HEADER = {0x42474F32, OneSidedBearOff.POINTS, MAX_CHECKERS, VALUES};
+    private static final int RECORD_SIZE = VALUES * Short.BYTES;
+    private static final float SCALE = Short.MAX_VALUE;
+    private static final int ROLLS = 36;
+    private static final int ROLL_COUNT = 21;
+
+    private final ByteBuffer data;
+
+    /**
+     * Creates a database over a buffer holding a header and all records.
+     *
+     * @param data the buffer; only read with absolute gets.
+     */
+    private TwoSidedBearOff(ByteBuffer data) {
+        this.data = data;
+    }
+
+    /**
+     * Maps a database file into memory.
+     *
+     * @param file the file written by {@link #write(Path)}.
+     * @return the database.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a two-sided bear-off database.
+     */
+    public static TwoSidedBearOff open(Path file) throws IOException {
+        long size = BearOffFile.HEADER_SIZE + (long) ENTRIES * RECORD_SIZE;
+        return new TwoSidedBearOff(BearOffFile.map(file, HEADER, size, "two-sided bear-off database"));
+    }
+
+    /**
+     * Writes the database to a file that {@link #open(Path)} can map.
+     *
+     * @param file the file to create or replace.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(Path file) throws IOException {
+        BearOffFile.write(file, data);
+    }
+
+    /**
+     * Computes the database.
+     *
+     * @return the database, held in memory.
+     */
+    public static TwoSidedBearOff generate() {
+        int[][] successors = successors();
+        int[] pips = new int[SIDE_POSITIONS];
+        List<int[]> positions = new ArrayList<>();
+        OneSidedBearOff.enumerate(new int[OneSidedBearOff.POINTS], 0, MAX_CHECKERS, positions);
+        for (int[] position : positions) {
+            pips[OneSidedBearOff.index(position)] = OneSidedBearOff.pips(position);
+        }
+
+        int maxPips = 2 * MAX_CHECKERS * OneSidedBearOff.POINTS;
+        int[] layerSizes = new int[maxPips + 1];
+        for (int entry = 0; entry < ENTRIES; entry++) {
+            layerSizes[pips[entry / SIDE_POSITIONS] + pips[entry % SIDE_POSITIONS]]++;
+        }
+        int[][] layers = new int[maxPips + 1][];
+        for (int layer = 0; layer <= maxPips; layer++) {
+            layers[layer] = new int[layerSizes[layer]];
+            layerSizes[layer] = 0;
+        }
+        for (int entry = 0; entry < ENTRIES; entry++) {
+            int layer = pips[entry / SIDE_POSITIONS] + pips[entry % SIDE_POSITIONS];
+            layers[layer][layerSizes[layer]++] = entry;
+        }
+
+        float[][] values = new float[VALUES][ENTRIES];
+        for (int[] layer : layers) {
+            IntStream.range(0, layer.length).parallel().forEach(i -> solve(layer[i], successors, values));
+        }
+
+        ByteBuffer data = BearOffFile.allocate(HEADER, BearOffFile.HEADER_SIZE + ENTRIES * RECORD_SIZE);
+        for (int entry = 0; entry < ENTRIES; entry++) {
+            for (float[] value : values) {
+                data.putShort((short) Math.round(value[entry] * SCALE));
+            }
+        }
+        return new TwoSidedBearOff(data);
+    }
+
+    /**
+     * Checks whether the database covers a position: both sides bearing off with at most {@value #MAX_CHECKERS}
+     * checkers left.
+     *
+     * @param board the position.
+     * @return true if the position can be looked up.
+     */
+    public static boolean covers(Board board) {
+        for (int side = PLAYER_1_SIDE; side <= PLAYER_2_SIDE; side++) {
+            if (!board.canBearOff(side) || CHECKERS_PER_PLAYER - board.getBearOffCount(side) > MAX_CHECKERS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of a covered position.
+     *
+     * @param board the position; see {@link #covers(Board)}.
+     * @param side  the side on roll.
+     * @return the entry index.
+     */
+    public static int index(Board board, int side) {
+        return OneSidedBearOff.index(board, side) * SIDE_POSITIONS + OneSidedBearOff.index(board, 1 - side);
+    }
+
+    /**
+     * Returns the cubeless equity of the side on roll.
+     *
+     * @param index the entry index.
+     * @return the equity, between -1 and 1.
+     */
+    public float getCubelessEquity(int index) {
+        return value(index, CUBELESS);
+    }
+
+    /**
+     * Returns the cubeful money equity of the side on roll, in units of the current cube value.
+     *
+     * @param index     the entry index.
+     * @param ownership who may double, seen from the side on roll.
+     * @return the equity, between -1 and 1.
+     */
+    public float getCubefulEquity(int index, CubeOwnership ownership) {
+        return value(index, 1 + ownership.ordinal());
+    }
+
+    /**
+     * Generates a database file.
+     *
+     * @param args the path of the file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.out.println("Usage: java model.TwoSidedBearOff <file>");
+            return;
+        }
+        generate().write(Path.of(args[0]));
+    }
+
+    /**
+     * Computes one entry from the entries its plays lead to.
+     *
+     * @param entry      the entry index.
+     * @param successors the distinct positions each one-sided position can reach with each roll.
+     * @param values     the values computed so far, by kind and entry.
+     */
+    private static void solve(int entry, int[][] successors, float[][] values) {
+        int own = entry / SIDE_POSITIONS;
+        int opponent = entry % SIDE_POSITIONS;
+        if (own == 0 || opponent == 0) {
+            float equity = own == 0 ? 1 : -1;
+            for (float[] value : values) {
+                value[entry] = equity;
+            }
+            return;
+        }
+
+        int centered = 1 + CubeOwnership.CENTERED.ordinal();
+        int owned = 1 + CubeOwnership.OWNED.ordinal();
+        int opponentOwned = 1 + CubeOwnership.OPPONENT_OWNED.ordinal();
+        float[] sums = new float[VALUES];
+        int roll = 0;
+        for (int die1 = 1; die1 <= MAXIMUM_DICE_VALUE; die1++) {
+            for (int die2 = die1; die2 <= MAXIMUM_DICE_VALUE; die2++, roll++) {
+                float weight = (die1 == die2 ? 1f : 2f) / ROLLS;
+                float[] best = {-1, -1, -1, -1};
+                for (int next : successors[own * ROLL_COUNT + roll]) {
+                    int reply = opponent * SIDE_POSITIONS + next;
+                    best[CUBELESS] = Math.max(best[CUBELESS], -values[CUBELESS][reply]);
+                    best[centered] = Math.max(best[centered], -values[centered][reply]);
+                    best[owned] = Math.max(best[owned], -values[opponentOwned][reply]);
+                    best[opponentOwned] = Math.max(best[opponentOwned], -values[owned][reply]);
+                }
+                for (int kind = 0; kind < VALUES; kind++) {
+                    sums[kind] += weight * best[kind];
+                }
+            }
+        }
+
+        float doubled = Math.min(1, 2 * sums[opponentOwned]);
+        values[CUBELESS][entry] = sums[CUBELESS];
+        values[opponentOwned][entry] = sums[opponentOwned];
+        values[owned][entry] = Math.max(sums[owned], doubled);
+        values[centered][entry] = Math.max(sums[centered], doubled);
+    }
+
+    /**
+     * Lists, for every one-sided position and roll, the distinct positions the legal plays lead to.
+     *
+     * @return the successor indexes, at {@code position * ROLL_COUNT + roll}.
+     */
+    private static int[][] successors() {
+        int[][] successors = new int[SIDE_POSITIONS * ROLL_COUNT][];
+        Board board = new Board(new Player("Player 1"), new Player("Player 2"));
+        PlayGenerator generator = new PlayGenerator();
+        List<int[]> positions = new ArrayList<>();
+        OneSidedBearOff.enumerate(new int[OneSidedBearOff.POINTS], 0, MAX_CHECKERS, positions);
+        int[] slots = new int[NUMBER_OF_POINTS + 2];
+        for (int[] position : positions) {
+            int index = OneSidedBearOff.index(position);
+            int checkers = 0;
+            for (int point = 0; point < OneSidedBearOff.POINTS; point++) {
+                slots[Move.offSlot(PLAYER_1_SIDE) - (point + 1)] = position[point];
+                checkers += position[point];
+            }
+            board.setPosition(slots, CHECKERS_PER_PLAYER - checkers, CHECKERS_PER_PLAYER);
+            int roll = 0;
+            for (int die1 = 1; die1 <= MAXIMUM_DICE_VALUE; die1++) {
+                for (int die2 = die1; die2 <= MAXIMUM_DICE_VALUE; die2++, roll++) {
+                    List<Play> plays = generator.generate(board, PLAYER_1_SIDE, die1, die2);
+                    int[] next = new int[plays.size()];
+                    for (int i = 0; i < next.length; i++) {
+                        plays.get(i).apply(board);
+                        next[i] = OneSidedBearOff.index(board, PLAYER_1_SIDE);
+                        plays.get(i).undo(board);
+                    }
+                    successors[index * ROLL_COUNT + roll] = next;
+                }
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * Reads one stored equity.
+     *
+     * @param index the entry index.
+     * @param kind  the value within the entry.
+     * @return the equity.
+     */
+    private float value(int index, int kind) {
+        return data.getShort(BearOffFile.HEADER_SIZE + index * RECORD_SIZE + kind * Short.BYTES) / SCALE;
+    }
+}
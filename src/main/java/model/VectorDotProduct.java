@@ -0,0 +1,55 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD dot product over the Vector API. Only loaded when {@link DotProduct#VECTORIZED} is true.
+ */
+final class VectorDotProduct {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private VectorDotProduct() {
+    }
+
+    /**
+     * Computes the dot product of a row of a weight matrix with a vector, a full vector of lanes at a time.
+     *
+     * @param weights the flat weight matrix.
+     * @param offset  the index of the row's first weight.
+     * @param values  the vector.
+     * @param length  the number of elements to multiply.
+     * @return the dot product.
+     */
+    static float dot(float[] weights, int offset, float[] values, int length) {
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector w = FloatVector.fromArray(SPECIES, weights, offset + i);
+            FloatVector v = FloatVector.fromArray(SPECIES, values, i);
+            sum = w.fma(v, sum);
+        }
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += weights[offset + i] * values[i];
+        }
+        return result;
+    }
+}
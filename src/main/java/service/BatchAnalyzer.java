@@ -0,0 +1,256 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package service;
+
+import model.Board;
+import model.Evaluator;
+import model.NPlySearch;
+import model.Player;
+import model.PositionId;
+import model.SearchResult;
+import model.TranspositionTable;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static util.CommonConstants.*;
+
+/**
+ * Analyses a stream of positions in parallel and writes the best play for each, in input order.
+ * <p>
+ * Every input line holds a position ID and a roll, e.g. {@code "4HPwATDgc/ABMA 31"} or
+ * {@code "4HPwATDgc/ABMA 3 1"}; blank lines and text after {@code #} are skipped. Each line produces one tab
+ * separated output line with the position ID, the roll, the best play, its cubeless equity for the side on roll
+ * and the depth searched, or {@code ERROR} and a message for a line that cannot be read.
+ * <p>
+ * Lines are read one at a time and handed to a fixed pool of worker threads. At most a bounded number of lines
+ * are in flight; when that many are pending, reading waits until the oldest result has been written, so memory
+ * use does not depend on the size of the input. Every worker has its own evaluator and search, and the searches
+ * share one {@link TranspositionTable}.
+ */
+public class BatchAnalyzer {
+    /**
+     * Search depth used by {@link #main(String[])} when none is given.
+     */
+    public static final int DEFAULT_PLIES = 1;
+
+    /**
+     * Lines in flight per worker thread used by {@link #main(String[])}.
+     */
+    public static final int DEFAULT_IN_FLIGHT_PER_THREAD = 64;
+
+    private static final int TRANSPOSITION_TABLE_SIZE = 1 << 20;
+    private static final String ERROR = "ERROR";
+
+    private final int plies;
+    private final int threads;
+    private final int maxInFlight;
+    private final ThreadLocal<Worker> workers;
+
+    /**
+     * Creates an analyzer.
+     *
+     * @param evaluatorSupplier creates one evaluator per worker thread.
+     * @param plies             the search depth.
+     * @param threads           the number of worker threads.
+     * @param maxInFlight       the most lines read but not yet written.
+     */
+    public BatchAnalyzer(Supplier<Evaluator> evaluatorSupplier, int plies, int threads, int maxInFlight) {
+        if (plies < 0 || threads < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("Invalid batch settings: " + plies + " plies, " + threads
+                    + " threads, " + maxInFlight + " in flight");
+        }
+        this.plies = plies;
+        this.threads = threads;
+        this.maxInFlight = maxInFlight;
+        TranspositionTable transpositions = plies > 0 ? new TranspositionTable(TRANSPOSITION_TABLE_SIZE) : null;
+        this.workers = ThreadLocal.withInitial(() -> new Worker(evaluatorSupplier.get(), transpositions));
+    }
+
+    /**
+     * Analyses every line of the input and writes the results as they complete, in input order.
+     *
+     * @param in  the input lines.
+     * @param out the output; flushed at the end, not closed.
+     * @return the number of positions analysed, including those reported as errors.
+     * @throws IOException          if reading or writing fails.
+     * @throws InterruptedException if the thread is interrupted while waiting for a result.
+     */
+    public long analyze(BufferedReader in, Writer out) throws IOException, InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        ArrayDeque<Future<String>> pending = new ArrayDeque<>(maxInFlight);
+        long count = 0;
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                int comment = line.indexOf('#');
+                String entry = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                if (entry.isEmpty()) {
+                    continue;
+                }
+                if (pending.size() == maxInFlight) {
+                    write(pending.poll(), out);
+                }
+                pending.add(pool.submit(() -> workers.get().analyze(entry)));
+                count++;
+            }
+            while (!pending.isEmpty()) {
+                write(pending.poll(), out);
+            }
+            out.flush();
+        } finally {
+            pool.shutdownNow();
+        }
+        return count;
+    }
+
+    /**
+     * Waits for a result and writes it as one line.
+     *
+     * @param result the pending result.
+     * @param out    the output.
+     * @throws IOException          if writing fails.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    private static void write(Future<String> result, Writer out) throws IOException, InterruptedException {
+        try {
+            out.write(result.get());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Analysis failed", e.getCause());
+        }
+        out.write(System.lineSeparator());
+    }
+
+    /**
+     * Analyses a file of positions.
+     *
+     * @param args the input file, the output file, and optionally the search depth and number of threads.
+     * @throws IOException          if a file cannot be read or written.
+     * @throws InterruptedException if the analysis is interrupted.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2 || args.length > 4) {
+            System.out.println("Usage: java service.BatchAnalyzer <input> <output> [plies] [threads]");
+            return;
+        }
+        int plies = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PLIES;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        try {
+            Evaluator.createDefault();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not load the evaluator: " + e);
+            return;
+        }
+        BatchAnalyzer analyzer = new BatchAnalyzer(BatchAnalyzer::createEvaluator, plies, threads,
+                threads * DEFAULT_IN_FLIGHT_PER_THREAD);
+
+        long start = System.nanoTime();
+        long count;
+        try (BufferedReader in = Files.newBufferedReader(Path.of(args[0]));
+             BufferedWriter out = Files.newBufferedWriter(Path.of(args[1]))) {
+            count = analyzer.analyze(in, out);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Analysed %d positions in %.1f s (%.0f per second).%n", count, seconds, count / seconds);
+    }
+
+    /**
+     * Creates a worker's evaluator with {@link Evaluator#createDefault()}, which {@link #main(String[])} has already
+     * checked can be loaded.
+     *
+     * @return a new evaluator.
+     * @throws UncheckedIOException if the evaluator's files can no longer be read.
+     */
+    private static Evaluator createEvaluator() {
+        try {
+            return Evaluator.createDefault();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The board and search one worker thread analyses with.
+     */
+    private final class Worker {
+        private final Board board = new Board(new Player("Player 1"), new Player("Player 2"));
+        private final NPlySearch search;
+
+        /**
+         * Creates a worker.
+         *
+         * @param evaluator      the worker's evaluator.
+         * @param transpositions the shared transposition table, or null.
+         */
+        private Worker(Evaluator evaluator, TranspositionTable transpositions) {
+            this.search = new NPlySearch(evaluator);
+            search.setTranspositionTable(transpositions);
+        }
+
+        /**
+         * Analyses one input line.
+         *
+         * @param entry the line, without comment and surrounding whitespace.
+         * @return the output line.
+         */
+        private String analyze(String entry) {
+            String[] fields = entry.split("\\s+");
+            try {
+                int[] dice = parseDice(fields);
+                PositionId.decode(fields[0], board, PLAYER_1_SIDE);
+                SearchResult result = search.findBestPlay(board, PLAYER_1_SIDE, dice[0], dice[1], plies);
+                return String.format(Locale.ROOT, "%s\t%d%d\t%s\t%+.4f\t%d", fields[0], dice[0], dice[1],
+                        result.getPlay(), result.getEquity(), result.getDepth());
+            } catch (IllegalArgumentException e) {
+                return fields[0] + "\t" + ERROR + "\t" + e.getMessage();
+            }
+        }
+
+        /**
+         * Reads the roll of an input line, written as one two-digit field or two one-digit fields.
+         *
+         * @param fields the fields of the line.
+         * @return the two dice.
+         * @throws IllegalArgumentException if the roll is missing or invalid.
+         */
+        private int[] parseDice(String[] fields) {
+            String roll = fields.length == 2 ? fields[1] : fields.length == 3 ? fields[1] + fields[2] : "";
+            if (roll.length() != 2) {
+                throw new IllegalArgumentException("Expected a position ID and a roll: " + String.join(" ", fields));
+            }
+            int[] dice = {roll.charAt(0) - '0', roll.charAt(1) - '0'};
+            for (int die : dice) {
+                if (die < MINIMUM_DICE_VALUE || die > MAXIMUM_DICE_VALUE) {
+                    throw new IllegalArgumentException("Invalid roll: " + roll);
+                }
+            }
+            return dice;
+        }
+    }
+}
@@ -35,7 +35,16 @@ public class BoardService {
      * @param player2 the second player.
      */
     public BoardService(Player player1, Player player2) {
-        this.board = new Board(player1, player2);
+        this(new Board(player1, player2));
+    }
+
+    /**
+     * Initializes the BoardService over an existing {@link Board}.
+     *
+     * @param board the board to manage.
+     */
+    public BoardService(Board board) {
+        this.board = board;
     }
 
     /**
@@ -0,0 +1,148 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+
+package service;
+
+import exceptions.InvalidCommandException;
+import util.Command;
+import util.CommandParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A command script, as run by the TEST command, parsed once into memory so that it can be replayed many times
+ * without reading or parsing it again.
+ * <p>
+ * Scripts mix commands with the option letters chosen after a ROLL, and which lines are letters is only known while
+ * the script is played. Every non-blank line is therefore kept both as a parsed command, or null when it is not
+ * one, and as an option letter.
+ */
+public class CommandScript {
+    private final String name;
+    private final String[] lines;
+    private final Command[] commands;
+    private final char[] options;
+
+    /**
+     * Creates a script from its trimmed, non-blank lines.
+     *
+     * @param name  the name used in messages, e.g. the file name.
+     * @param lines the lines of the script.
+     */
+    private CommandScript(String name, List<String> lines) {
+        this.name = name;
+        this.lines = lines.toArray(new String[0]);
+        this.commands = new Command[this.lines.length];
+        this.options = new char[this.lines.length];
+
+        CommandParser parser = new CommandParser();
+        for (int i = 0; i < this.lines.length; i++) {
+            try {
+                commands[i] = parser.parseCommand(this.lines[i]);
+            } catch (InvalidCommandException e) {
+                commands[i] = null;
+            }
+            options[i] = Character.toUpperCase(this.lines[i].charAt(0));
+        }
+    }
+
+    /**
+     * Parses a script from a reader. Blank lines are skipped.
+     *
+     * @param name   the name used in messages.
+     * @param reader the script text.
+     * @return the parsed script.
+     * @throws IOException if reading fails.
+     */
+    public static CommandScript parse(String name, BufferedReader reader) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (!line.isEmpty()) {
+                lines.add(line);
+            }
+        }
+        return new CommandScript(name, lines);
+    }
+
+    /**
+     * Reads and parses a script file.
+     *
+     * @param file the script file.
+     * @return the parsed script.
+     * @throws IOException if the file cannot be read.
+     */
+    public static CommandScript read(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            return parse(file.toString(), reader);
+        }
+    }
+
+    /**
+     * Returns the name of this script.
+     *
+     * @return the name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of non-blank lines.
+     *
+     * @return the number of lines.
+     */
+    public int size() {
+        return lines.length;
+    }
+
+    /**
+     * Returns a line as written, without surrounding whitespace.
+     *
+     * @param index the line index, counting non-blank lines only.
+     * @return the line.
+     */
+    public String getLine(int index) {
+        return lines[index];
+    }
+
+    /**
+     * Returns a line parsed as a command.
+     *
+     * @param index the line index.
+     * @return the command, or null if the line is not a valid command.
+     */
+    public Command getCommand(int index) {
+        return commands[index];
+    }
+
+    /**
+     * Returns a line read as an option letter: its first character in upper case.
+     *
+     * @param index the line index.
+     * @return the option letter.
+     */
+    public char getOption(int index) {
+        return options[index];
+    }
+}
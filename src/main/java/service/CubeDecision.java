@@ -0,0 +1,124 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package service;
+
+import enums.CubeAction;
+
+/**
+ * The cube decision for the side on roll: the equities of not doubling, doubling and being taken, and doubling
+ * and being passed, all from the point of view of the side on roll, and the action they lead to.
+ */
+public class CubeDecision {
+    private final float noDouble;
+    private final float doubleTake;
+    private final float doublePass;
+    private final CubeAction action;
+
+    /**
+     * Creates a decision from the three equities.
+     *
+     * @param noDouble   the equity of playing on without doubling.
+     * @param doubleTake the equity after doubling and being taken.
+     * @param doublePass the equity after doubling and being passed.
+     */
+    CubeDecision(float noDouble, float doubleTake, float doublePass) {
+        this.noDouble = noDouble;
+        this.doubleTake = doubleTake;
+        this.doublePass = doublePass;
+        if (Math.min(doubleTake, doublePass) > noDouble) {
+            action = doubleTake <= doublePass ? CubeAction.DOUBLE_TAKE : CubeAction.DOUBLE_PASS;
+        } else {
+            action = doubleTake > doublePass && noDouble >= doublePass ? CubeAction.TOO_GOOD_PASS : CubeAction.NO_DOUBLE;
+        }
+    }
+
+    /**
+     * Returns the correct cube action.
+     *
+     * @return the action.
+     */
+    public CubeAction getAction() {
+        return action;
+    }
+
+    /**
+     * Checks whether the side on roll should double.
+     *
+     * @return true for {@link CubeAction#DOUBLE_TAKE} and {@link CubeAction#DOUBLE_PASS}.
+     */
+    public boolean shouldDouble() {
+        return action == CubeAction.DOUBLE_TAKE || action == CubeAction.DOUBLE_PASS;
+    }
+
+    /**
+     * Checks whether the opponent should take a double: being doubled and taking must cost the opponent no more
+     * than passing.
+     *
+     * @return true to take, false to pass.
+     */
+    public boolean shouldTake() {
+        return doubleTake <= doublePass;
+    }
+
+    /**
+     * Returns the equity of playing on without doubling.
+     *
+     * @return the no-double equity.
+     */
+    public float getNoDoubleEquity() {
+        return noDouble;
+    }
+
+    /**
+     * Returns the equity after doubling when the opponent takes.
+     *
+     * @return the double/take equity.
+     */
+    public float getDoubleTakeEquity() {
+        return doubleTake;
+    }
+
+    /**
+     * Returns the equity after doubling when the opponent passes.
+     *
+     * @return the double/pass equity.
+     */
+    public float getDoublePassEquity() {
+        return doublePass;
+    }
+
+    /**
+     * Returns the cubeful equity of the position: the better of not doubling and doubling, given the opponent's
+     * best answer.
+     *
+     * @return the equity with correct cube play.
+     */
+    public float getEquity() {
+        return Math.max(noDouble, Math.min(doubleTake, doublePass));
+    }
+
+    /**
+     * Formats the decision for display.
+     *
+     * @return the action and the three equities.
+     */
+    @Override
+    public String toString() {
+        return String.format("%s (no double %+.3f, double/take %+.3f, double/pass %+.3f)",
+                action, noDouble, doubleTake, doublePass);
+    }
+}
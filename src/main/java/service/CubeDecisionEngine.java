@@ -0,0 +1,277 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package service;
+
+import enums.CubeOwnership;
+import model.Board;
+import model.DoublingCube;
+import model.Evaluator;
+import model.Player;
+
+import static util.CommonConstants.*;
+
+/**
+ * Makes cube decisions by converting a cubeless evaluation into cubeful equities.
+ * <p>
+ * In money play equities follow Janowski's model: the cubeful equity is interpolated between the dead cube
+ * equity (the cubeless equity) and the fully live cube equity, which is piecewise linear in the winning chances
+ * between the take point and the cash point. The cube efficiency sets how live the cube is; it is lower in short
+ * races, where fewer market losers remain. Equities are in units of the current cube value.
+ * <p>
+ * In a match every outcome of the game is first valued by looking up the resulting score in a
+ * {@link MatchEquityTable}. These values are rescaled so that winning and losing a single game at the stake count
+ * 1 and -1, the same model is applied, and the result is scaled back. Equities are then match equities: winning
+ * the match counts 1, losing it -1. When a single game cannot change the match result, only the dead cube
+ * equities are used.
+ * <p>
+ * A decision costs one evaluation and a few arithmetic operations. An engine reuses its evaluation buffer and
+ * must not be shared between threads.
+ */
+public class CubeDecisionEngine {
+    /**
+     * Cube efficiency used for positions with contact.
+     */
+    public static final float DEFAULT_CUBE_EFFICIENCY = 0.68f;
+
+    private static final float RACE_EFFICIENCY_BASE = 0.55f;
+    private static final float RACE_EFFICIENCY_PER_PIP = 0.00125f;
+    private static final float MIN_RACE_EFFICIENCY = 0.6f;
+    private static final float MAX_RACE_EFFICIENCY = 0.7f;
+    private static final float MIN_SPREAD = 1e-6f;
+
+    private final Evaluator evaluator;
+    private final float contactEfficiency;
+    private final float[] output = new float[Evaluator.OUTPUTS];
+    private MatchEquityTable matchEquityTable = MatchEquityTable.getDefault();
+
+    /**
+     * Creates an engine with the default cube efficiency.
+     *
+     * @param evaluator the evaluator giving the cubeless probabilities.
+     */
+    public CubeDecisionEngine(Evaluator evaluator) {
+        this(evaluator, DEFAULT_CUBE_EFFICIENCY);
+    }
+
+    /**
+     * Creates an engine.
+     *
+     * @param evaluator         the evaluator giving the cubeless probabilities.
+     * @param contactEfficiency the cube efficiency for positions with contact, between 0 (dead) and 1 (live).
+     */
+    public CubeDecisionEngine(Evaluator evaluator, float contactEfficiency) {
+        if (contactEfficiency < 0 || contactEfficiency > 1) {
+            throw new IllegalArgumentException("Cube efficiency must be between 0 and 1: " + contactEfficiency);
+        }
+        this.evaluator = evaluator;
+        this.contactEfficiency = contactEfficiency;
+    }
+
+    /**
+     * Sets the table match scores are valued with. The {@linkplain MatchEquityTable#getDefault() default table}
+     * is used otherwise.
+     *
+     * @param matchEquityTable the table.
+     */
+    public void setMatchEquityTable(MatchEquityTable matchEquityTable) {
+        this.matchEquityTable = matchEquityTable;
+    }
+
+    /**
+     * Analyses the cube decision of the side to move, before it rolls. While a double is pending, this is the
+     * decision of the doubling side, and {@link CubeDecision#shouldTake()} gives the answer to it.
+     *
+     * @param engine the game; when it belongs to a match, the score is taken into account.
+     * @return the decision.
+     */
+    public CubeDecision analyze(GameEngine engine) {
+        Board board = engine.getBoard();
+        int side = engine.getSideToMove();
+        DoublingCube cube = engine.getDoublingManager().getDoublingCube();
+        evaluator.evaluate(board, side, output);
+
+        CubeOwnership ownership = ownership(cube, board.getPlayer(side));
+        float efficiency = getCubeEfficiency(board, side);
+        MatchManager match = engine.getMatchManager();
+        if (match != null) {
+            int lead = match.getPlayer1Score() - match.getPlayer2Score();
+            int gamesLeft = match.getMatchLength() - match.getCurrentGameNumber();
+            return analyzeMatch(output, ownership, efficiency, cube.getValue(), matchEquityTable, gamesLeft,
+                    side == PLAYER_1_SIDE ? lead : -lead);
+        }
+        return analyzeMoney(output, ownership, efficiency);
+    }
+
+    /**
+     * Returns the cube efficiency for a position: the contact efficiency, or in a race a value growing with the
+     * pip count of the side on roll.
+     *
+     * @param board the position.
+     * @param side  the side on roll.
+     * @return the cube efficiency.
+     */
+    public float getCubeEfficiency(Board board, int side) {
+        if (board.hasContact()) {
+            return contactEfficiency;
+        }
+        float efficiency = RACE_EFFICIENCY_BASE + RACE_EFFICIENCY_PER_PIP * board.getPipCount(side);
+        return Math.min(Math.max(efficiency, MIN_RACE_EFFICIENCY), MAX_RACE_EFFICIENCY);
+    }
+
+    /**
+     * Analyses a money cube decision.
+     *
+     * @param output     the cubeless probabilities of the side on roll.
+     * @param ownership  who owns the cube, seen from the side on roll; the side must be allowed to double.
+     * @param efficiency the cube efficiency.
+     * @return the decision, in units of the current cube value.
+     */
+    public static CubeDecision analyzeMoney(float[] output, CubeOwnership ownership, float efficiency) {
+        float noDouble = cubefulEquity(output, ownership, efficiency);
+        float doubleTake = 2 * cubefulEquity(output, CubeOwnership.OPPONENT_OWNED, efficiency);
+        return new CubeDecision(noDouble, doubleTake, 1);
+    }
+
+    /**
+     * Converts cubeless probabilities into a money cubeful equity with Janowski's model.
+     *
+     * @param output     the cubeless probabilities of the side on roll.
+     * @param ownership  who owns the cube, seen from the side on roll.
+     * @param efficiency the cube efficiency, between 0 (dead) and 1 (live).
+     * @return the cubeful equity in units of the cube value.
+     */
+    public static float cubefulEquity(float[] output, CubeOwnership ownership, float efficiency) {
+        float p = Math.min(Math.max(output[Evaluator.WIN], 0), 1);
+        float win = p > 0 ? 1 + (output[Evaluator.WIN_GAMMON] + output[Evaluator.WIN_BACKGAMMON]) / p : 1;
+        float loss = p < 1 ? 1 + (output[Evaluator.LOSE_GAMMON] + output[Evaluator.LOSE_BACKGAMMON]) / (1 - p) : 1;
+        return janowski(p, win, loss, Evaluator.equity(output), ownership, efficiency);
+    }
+
+    /**
+     * Analyses a cube decision in a match.
+     *
+     * @param output     the cubeless probabilities of the side on roll.
+     * @param ownership  who owns the cube, seen from the side on roll; the side must be allowed to double.
+     * @param efficiency the cube efficiency.
+     * @param cube       the current cube value.
+     * @param table      the table valuing match scores.
+     * @param gamesLeft  the number of games of the match after this one.
+     * @param lead       the match score of the side on roll minus the opponent's.
+     * @return the decision, in match equity.
+     */
+    public static CubeDecision analyzeMatch(float[] output, CubeOwnership ownership, float efficiency, int cube,
+                                            MatchEquityTable table, int gamesLeft, int lead) {
+        float noDouble = matchCubefulEquity(output, ownership, efficiency, cube, table, gamesLeft, lead);
+        float doubleTake = matchCubefulEquity(output, CubeOwnership.OPPONENT_OWNED, efficiency, 2 * cube, table,
+                gamesLeft, lead);
+        return new CubeDecision(noDouble, doubleTake, table.getEquity(gamesLeft, lead + cube));
+    }
+
+    /**
+     * Converts cubeless probabilities into a cubeful match equity at a given stake.
+     *
+     * @param output     the cubeless probabilities of the side on roll.
+     * @param ownership  who owns the cube, seen from the side on roll.
+     * @param efficiency the cube efficiency.
+     * @param stake      the cube value the game is played for.
+     * @param table      the table valuing match scores.
+     * @param gamesLeft  the number of games of the match after this one.
+     * @param lead       the match score of the side on roll minus the opponent's.
+     * @return the cubeful match equity.
+     */
+    private static float matchCubefulEquity(float[] output, CubeOwnership ownership, float efficiency, int stake,
+                                            MatchEquityTable table, int gamesLeft, int lead) {
+        float single = output[Evaluator.WIN] - output[Evaluator.WIN_GAMMON];
+        float gammon = output[Evaluator.WIN_GAMMON] - output[Evaluator.WIN_BACKGAMMON];
+        float backgammon = output[Evaluator.WIN_BACKGAMMON];
+        float lostSingle = 1 - output[Evaluator.WIN] - output[Evaluator.LOSE_GAMMON];
+        float lostGammon = output[Evaluator.LOSE_GAMMON] - output[Evaluator.LOSE_BACKGAMMON];
+        float lostBackgammon = output[Evaluator.LOSE_BACKGAMMON];
+
+        float winValue = table.getEquity(gamesLeft, lead + stake);
+        float lossValue = table.getEquity(gamesLeft, lead - stake);
+        float wonGammon = table.getEquity(gamesLeft, lead + GAMMON * stake);
+        float wonBackgammon = table.getEquity(gamesLeft, lead + BACKGAMMON * stake);
+        float lossGammon = table.getEquity(gamesLeft, lead - GAMMON * stake);
+        float lossBackgammon = table.getEquity(gamesLeft, lead - BACKGAMMON * stake);
+        float dead = single * winValue + gammon * wonGammon + backgammon * wonBackgammon
+                + lostSingle * lossValue + lostGammon * lossGammon + lostBackgammon * lossBackgammon;
+        float spread = winValue - lossValue;
+        if (spread < MIN_SPREAD) {
+            return dead;
+        }
+
+        float middle = winValue + lossValue;
+        float p = Math.min(Math.max(output[Evaluator.WIN], 0), 1);
+        float win = p > 0 ? (single + (gammon * (2 * wonGammon - middle) + backgammon * (2 * wonBackgammon - middle))
+                / spread) / p : 1;
+        float loss = p < 1 ? (lostSingle - (lostGammon * (2 * lossGammon - middle)
+                + lostBackgammon * (2 * lossBackgammon - middle)) / spread) / (1 - p) : 1;
+        float equity = janowski(p, win, loss, (2 * dead - middle) / spread, ownership, efficiency);
+        return (equity * spread + middle) / 2;
+    }
+
+    /**
+     * Applies Janowski's model in units where winning and losing a single game count 1 and -1.
+     *
+     * @param p          the winning chances.
+     * @param win        the average value of a win.
+     * @param loss       the average value of a loss, as a positive number.
+     * @param dead       the dead cube equity.
+     * @param ownership  who owns the cube, seen from the side on roll.
+     * @param efficiency the cube efficiency, between 0 (dead) and 1 (live).
+     * @return the cubeful equity.
+     */
+    private static float janowski(float p, float win, float loss, float dead, CubeOwnership ownership,
+                                  float efficiency) {
+        float takePoint = (loss - 0.5f) / (win + loss + 0.5f);
+        float cashPoint = (loss + 1) / (win + loss + 0.5f);
+
+        float live = switch (ownership) {
+            case OWNED -> p < cashPoint
+                    ? -loss + (loss + 1) * p / cashPoint
+                    : 1 + (win - 1) * (p - cashPoint) / (1 - cashPoint);
+            case OPPONENT_OWNED -> p < takePoint
+                    ? -loss + (loss - 1) * p / takePoint
+                    : -1 + (win + 1) * (p - takePoint) / (1 - takePoint);
+            case CENTERED -> {
+                if (p < takePoint) {
+                    yield -loss + (loss - 1) * p / takePoint;
+                } else if (p < cashPoint) {
+                    yield -1 + 2 * (p - takePoint) / (cashPoint - takePoint);
+                }
+                yield 1 + (win - 1) * (p - cashPoint) / (1 - cashPoint);
+            }
+        };
+        return efficiency * live + (1 - efficiency) * dead;
+    }
+
+    /**
+     * Returns who owns the cube, seen from one player.
+     *
+     * @param cube   the cube.
+     * @param player the player.
+     * @return the ownership.
+     */
+    private static CubeOwnership ownership(DoublingCube cube, Player player) {
+        Player owner = cube.getOwner();
+        if (owner == null) {
+            return CubeOwnership.CENTERED;
+        }
+        return owner.equals(player) ? CubeOwnership.OWNED : CubeOwnership.OPPONENT_OWNED;
+    }
+}
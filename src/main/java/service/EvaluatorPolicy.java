@@ -0,0 +1,70 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package service;
+
+import model.Evaluator;
+import model.Play;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Move policy that plays the move an {@link Evaluator} rates best. It never doubles unless cube decisions are
+ * enabled, in which case a {@link CubeDecisionEngine} over the same evaluator doubles and takes. Evaluators are
+ * not thread-safe, so every thread gets its own instance from the supplier.
+ */
+public class EvaluatorPolicy implements MovePolicy {
+    private final ThreadLocal<Evaluator> evaluators;
+    private final ThreadLocal<CubeDecisionEngine> cubeEngines;
+    private final boolean cubeDecisions;
+
+    /**
+     * Creates a policy backed by evaluators from the given supplier that never doubles and always takes.
+     *
+     * @param evaluatorSupplier creates one evaluator per thread.
+     */
+    public EvaluatorPolicy(Supplier<Evaluator> evaluatorSupplier) {
+        this(evaluatorSupplier, false);
+    }
+
+    /**
+     * Creates a policy backed by evaluators from the given supplier.
+     *
+     * @param evaluatorSupplier creates one evaluator per thread.
+     * @param cubeDecisions     true to double and take according to cubeful equities.
+     */
+    public EvaluatorPolicy(Supplier<Evaluator> evaluatorSupplier, boolean cubeDecisions) {
+        this.evaluators = ThreadLocal.withInitial(evaluatorSupplier);
+        this.cubeEngines = ThreadLocal.withInitial(() -> new CubeDecisionEngine(evaluators.get()));
+        this.cubeDecisions = cubeDecisions;
+    }
+
+    @Override
+    public Play choosePlay(GameEngine engine, List<Play> plays) {
+        return evaluators.get().choosePlay(engine.getBoard(), engine.getSideToMove(), plays);
+    }
+
+    @Override
+    public boolean shouldDouble(GameEngine engine) {
+        return cubeDecisions && cubeEngines.get().analyze(engine).shouldDouble();
+    }
+
+    @Override
+    public boolean shouldAccept(GameEngine engine) {
+        return !cubeDecisions || cubeEngines.get().analyze(engine).shouldTake();
+    }
+}
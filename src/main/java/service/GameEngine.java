@@ -0,0 +1,330 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package service;
+
+import exceptions.InvalidCommandException;
+import model.Board;
+import model.MoveList;
+import model.Play;
+import model.PlayCache;
+import model.PlayGenerator;
+import model.Player;
+
+import java.util.List;
+
+import static util.CommonConstants.*;
+
+/**
+ * Headless rules engine for a single game: board, side to move, legal plays, the doubling cube and the result.
+ * <p>
+ * The engine performs no console I/O and never blocks, so games can be driven programmatically by bots,
+ * simulations or a server. {@link GameService} is the interactive adapter over it. Sides are identified by
+ * {@code PLAYER_1_SIDE} and {@code PLAYER_2_SIDE}. An engine is not thread-safe; use one per game.
+ */
+public class GameEngine {
+    /**
+     * Returned by {@link #getWinner()} while the game has no winner.
+     */
+    public static final int NO_SIDE = -1;
+
+    private final Board board;
+    private final DoublingManager doublingManager;
+    private PlayGenerator playGenerator = new PlayGenerator();
+    private int sideToMove = PLAYER_1_SIDE;
+    private int refusedSide = NO_SIDE;
+    private MatchManager matchManager;
+
+    /**
+     * Creates an engine for a new game with a centered cube.
+     *
+     * @param player1 the first player.
+     * @param player2 the second player.
+     */
+    public GameEngine(Player player1, Player player2) {
+        this(player1, player2, new DoublingManager());
+    }
+
+    /**
+     * Creates an engine for a new game using the given doubling state.
+     *
+     * @param player1         the first player.
+     * @param player2         the second player.
+     * @param doublingManager the doubling cube and any pending double.
+     */
+    public GameEngine(Player player1, Player player2, DoublingManager doublingManager) {
+        this(new Board(player1, player2), doublingManager);
+    }
+
+    /**
+     * Creates an engine that continues a game from an existing position. The engine plays on the given board.
+     *
+     * @param board           the position to play from.
+     * @param doublingManager the doubling cube and any pending double.
+     */
+    public GameEngine(Board board, DoublingManager doublingManager) {
+        this.board = board;
+        this.doublingManager = doublingManager;
+    }
+
+    /**
+     * Returns the board of this game.
+     *
+     * @return the board.
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Returns the doubling state of this game.
+     *
+     * @return the doubling manager.
+     */
+    public DoublingManager getDoublingManager() {
+        return doublingManager;
+    }
+
+    /**
+     * Returns the match this game is part of.
+     *
+     * @return the match, or null for a single money game.
+     */
+    public MatchManager getMatchManager() {
+        return matchManager;
+    }
+
+    /**
+     * Sets the match this game is part of, so that decisions can take the score into account.
+     *
+     * @param matchManager the match, or null for a single money game.
+     */
+    public void setMatchManager(MatchManager matchManager) {
+        this.matchManager = matchManager;
+    }
+
+    /**
+     * Returns the side whose turn it is.
+     *
+     * @return the side index.
+     */
+    public int getSideToMove() {
+        return sideToMove;
+    }
+
+    /**
+     * Sets the side whose turn it is, e.g. after the opening roll.
+     *
+     * @param side the side index.
+     */
+    public void setSideToMove(int side) {
+        this.sideToMove = side;
+    }
+
+    /**
+     * Returns the player whose turn it is.
+     *
+     * @return the player to move.
+     */
+    public Player getPlayerToMove() {
+        return board.getPlayer(sideToMove);
+    }
+
+    /**
+     * Serves legal plays from a cache, which may be shared with other engines and threads. Lists returned by
+     * {@link #getLegalPlays(int, int)} are then unmodifiable.
+     *
+     * @param playCache the cache of generated plays, or null to generate every request.
+     */
+    public void setPlayCache(PlayCache playCache) {
+        this.playGenerator = new PlayGenerator(playCache);
+    }
+
+    /**
+     * Returns every distinct legal play for the side to move.
+     *
+     * @param die1 the value of the first die.
+     * @param die2 the value of the second die.
+     * @return the legal plays; a single empty play when the roll cannot be played.
+     */
+    public List<Play> getLegalPlays(int die1, int die2) {
+        return playGenerator.generate(board, sideToMove, die1, die2);
+    }
+
+    /**
+     * Returns every distinct legal play for the dice still unused in a partly played roll.
+     *
+     * @param remaining the dice of the roll; entries of 0 are treated as already used.
+     * @return the legal plays; a single empty play when no remaining die can be played.
+     */
+    public List<Play> getLegalPlays(int[] remaining) {
+        return playGenerator.generate(board, sideToMove, remaining);
+    }
+
+    /**
+     * Plays a complete play for the side to move and passes the turn.
+     *
+     * @param play a play returned by {@link #getLegalPlays(int, int)} for the current position.
+     */
+    public void play(Play play) {
+        play.apply(board);
+        endTurn();
+    }
+
+    /**
+     * Fills the list with the legal single-checker moves of the side to move, for interfaces that play a roll
+     * one checker at a time.
+     *
+     * @param dice  the remaining dice; entries of 0 are treated as already used.
+     * @param moves the list to fill.
+     */
+    public void generateMoves(int[] dice, MoveList moves) {
+        board.generateMoves(sideToMove, dice, moves);
+    }
+
+    /**
+     * Plays a single checker move without passing the turn.
+     *
+     * @param move a packed move from {@link #generateMoves(int[], MoveList)}.
+     */
+    public void applyMove(int move) {
+        board.apply(move);
+    }
+
+    /**
+     * Passes the turn to the other side.
+     */
+    public void endTurn() {
+        sideToMove = 1 - sideToMove;
+    }
+
+    /**
+     * Checks whether the given side may offer a double: the cube must be centered or owned by that side, and no
+     * double may already be pending.
+     *
+     * @param side the side index.
+     * @return true if the side may double.
+     */
+    public boolean canDouble(int side) {
+        Player owner = doublingManager.getDoublingCube().getOwner();
+        return !isGameOver() && doublingManager.getPlayerToRespond() == null
+                && (owner == null || owner.equals(board.getPlayer(side)));
+    }
+
+    /**
+     * Offers a double on behalf of the side to move.
+     *
+     * @throws InvalidCommandException if the side to move may not double.
+     */
+    public void offerDouble() throws InvalidCommandException {
+        if (!canDouble(sideToMove)) {
+            throw new InvalidCommandException("You cannot offer the doubling cube!");
+        }
+        doublingManager.setPlayerToRespond(board.getPlayer(1 - sideToMove));
+    }
+
+    /**
+     * Accepts the pending double: the cube value doubles and the responding side takes ownership.
+     *
+     * @throws InvalidCommandException if no double is pending.
+     */
+    public void acceptDouble() throws InvalidCommandException {
+        Player responder = getResponder();
+        doublingManager.getDoublingCube().doubleValue(responder);
+        doublingManager.setPlayerToRespond(null);
+    }
+
+    /**
+     * Refuses the pending double, ending the game in favour of the doubling side at the current cube value.
+     *
+     * @throws InvalidCommandException if no double is pending.
+     */
+    public void refuseDouble() throws InvalidCommandException {
+        refusedSide = board.sideOf(getResponder());
+        doublingManager.setPlayerToRespond(null);
+    }
+
+    /**
+     * Returns the player who has to answer the pending double.
+     *
+     * @return the responding player.
+     * @throws InvalidCommandException if no double is pending.
+     */
+    private Player getResponder() throws InvalidCommandException {
+        Player responder = doublingManager.getPlayerToRespond();
+        if (responder == null) {
+            throw new InvalidCommandException(DOUBLING_COMMANDS_ERROR_MESSAGE);
+        }
+        return responder;
+    }
+
+    /**
+     * Checks whether the game has been decided, by bearing off or by a refused double.
+     *
+     * @return true if the game is over.
+     */
+    public boolean isGameOver() {
+        return getWinner() != NO_SIDE;
+    }
+
+    /**
+     * Returns the side that won the game.
+     *
+     * @return the winning side, or {@link #NO_SIDE} while the game is undecided.
+     */
+    public int getWinner() {
+        if (refusedSide != NO_SIDE) {
+            return 1 - refusedSide;
+        }
+        if (board.getBearOffCount(PLAYER_1_SIDE) == CHECKERS_PER_PLAYER) {
+            return PLAYER_1_SIDE;
+        }
+        if (board.getBearOffCount(PLAYER_2_SIDE) == CHECKERS_PER_PLAYER) {
+            return PLAYER_2_SIDE;
+        }
+        return NO_SIDE;
+    }
+
+    /**
+     * Returns how the game was won: {@code SINGLE}, {@code GAMMON} when the loser has borne off no checkers, or
+     * {@code BACKGAMMON} when the loser also still has a checker on the bar or in the winner's home board.
+     * A refused double always counts as a single game.
+     *
+     * @return the result multiplier, or 0 while the game is undecided.
+     */
+    public int getResultMultiplier() {
+        int winner = getWinner();
+        if (winner == NO_SIDE) {
+            return 0;
+        }
+        int loser = 1 - winner;
+        if (refusedSide != NO_SIDE || board.getBearOffCount(loser) > 0) {
+            return SINGLE;
+        }
+        if (board.getBarCount(loser) > 0 || board.hasCheckersInHomeBoard(loser, winner)) {
+            return BACKGAMMON;
+        }
+        return GAMMON;
+    }
+
+    /**
+     * Returns the points the winner scores: the cube value times the result multiplier.
+     *
+     * @return the points won, or 0 while the game is undecided.
+     */
+    public int getPoints() {
+        return doublingManager.getDoublingCube().getValue() * getResultMultiplier();
+    }
+}
@@ -17,17 +17,21 @@ package service;
 
 import enums.CommandType;
 import exceptions.InvalidCommandException;
-import model.Checker;
+import model.Board;
 import model.Dice;
+import model.DoublingCube;
+import model.Evaluator;
+import model.Move;
+import model.MoveList;
+import model.PipCountEvaluator;
+import model.Play;
+import model.PlayCache;
 import model.Player;
 import util.*;
 
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
 
 import static util.CommonConstants.*;
 
@@ -37,9 +41,8 @@ import static util.CommonConstants.*;
  */
 public class GameService {
     private final MatchManager matchManager;
-    private final DoublingManager doublingManager;
+    private GameEngine engine;
     private BoardService boardService;
-    private Player currentPlayer;
     private final Dice dice = new Dice();
     private final CommandParser commandParser = new CommandParser();
     private boolean gameOver;
@@ -48,6 +51,11 @@ public class GameService {
     private int presetRoll1;
     private int presetRoll2;
 
+    private final MoveList moveOptions = new MoveList();
+    private final float[] evaluation = new float[Evaluator.OUTPUTS];
+    private final PlayCache playCache = new PlayCache();
+    private Evaluator evaluator;
+
     private boolean isFileInputMode = false;
     private BufferedReader fileBufferedReader;
 
@@ -58,7 +66,6 @@ public class GameService {
      */
     public GameService(MatchManager matchManager) {
         this.matchManager = matchManager;
-        this.doublingManager = new DoublingManager();
     }
 
     /**
@@ -66,7 +73,10 @@ public class GameService {
      */
     public void setUpGame() {
         gameOver = false;
-        boardService = new BoardService(matchManager.getPlayer1(), matchManager.getPlayer2());
+        engine = new GameEngine(matchManager.getPlayer1(), matchManager.getPlayer2());
+        engine.setPlayCache(playCache);
+        engine.setMatchManager(matchManager);
+        boardService = new BoardService(engine.getBoard());
         determineStartingPlayer();
     }
 
@@ -96,7 +106,7 @@ public class GameService {
         } else {
             switch (command.getType()) {
                 case ROLL -> {
-                    executeRollAndPlay(currentPlayer);
+                    executeRollAndPlay(engine.getPlayerToMove());
                     displayGameState();
                     toggleCurrentPlayer();
                 }
@@ -138,148 +148,50 @@ public class GameService {
      */
     public void updateScore() {
         Player winner = determineWinner();
-        Player loser = (winner == matchManager.getPlayer1()) ? matchManager.getPlayer2() : matchManager.getPlayer1();
-
-        int basePoints = doublingManager.getDoublingCube().getValue();
-        int score = calculateScore(winner, loser, basePoints);
+        int score = calculateScore(winner);
 
         matchManager.incrementScore(winner, score);
     }
 
     /**
-     * Determines the winner of the game based on checkers borne off or pip counts.
+     * Determines the winner of the game based on checkers borne off, a refused double, or pip counts.
      *
      * @return the player who won the game, or null if it's a draw.
      */
     private Player determineWinner() {
-        boolean player1AllOff = isAllCheckersBorneOff(matchManager.getPlayer1());
-        boolean player2AllOff = isAllCheckersBorneOff(matchManager.getPlayer2());
+        if (engine.isGameOver()) {
+            return engine.getBoard().getPlayer(engine.getWinner());
+        }
+
+        // If the game was ended early, determine by pip count
+        int p1PipCount = calculatePipCount(matchManager.getPlayer1());
+        int p2PipCount = calculatePipCount(matchManager.getPlayer2());
 
-        if (player1AllOff && !player2AllOff) {
+        if (p1PipCount < p2PipCount) {
             return matchManager.getPlayer1();
-        } else if (player2AllOff && !player1AllOff) {
+        } else if (p2PipCount < p1PipCount) {
             return matchManager.getPlayer2();
-        } else if (!player1AllOff && !player2AllOff) {
-            // If no one has borne off all checkers, determine by pip count
-            int p1PipCount = calculatePipCount(matchManager.getPlayer1());
-            int p2PipCount = calculatePipCount(matchManager.getPlayer2());
-
-            if (p1PipCount < p2PipCount) {
-                return matchManager.getPlayer1();
-            } else if (p2PipCount < p1PipCount) {
-                return matchManager.getPlayer2();
-            } else {
-                return null;
-            }
+        } else {
+            return null;
         }
-
-        return null;
     }
 
-    private int calculateScore(Player winner, Player loser, int basePoints) {
+    private int calculateScore(Player winner) {
         if (winner == null) {
             return 0;
         }
 
-        boolean winnerAllOff = isAllCheckersBorneOff(winner);
-
-        if (winnerAllOff) {
-            if (isGammon(winner, loser)) {
-                System.out.println(GAMMON_MESSAGE);
-                return basePoints * GAMMON;
-            } else if (isBackgammon(winner, loser)) {
-                System.out.println(BACKGAMMON_MESSAGE);
-                return basePoints * BACKGAMMON;
-            } else {
-
-                return basePoints * SINGLE;
-            }
-        } else {
-            return basePoints;
-        }
-    }
-
-    /**
-     * Checks if a player has borne off all their checkers.
-     *
-     * @param player the player being checked.
-     * @return true if the player has borne off all 15 checkers, false otherwise.
-     */
-    private boolean isAllCheckersBorneOff(Player player) {
-        int borneOffCount = boardService.getBearOffForPlayer(player).size();
-        return borneOffCount == 15;
-    }
-
-    /**
-     * Determines if the game result is a Gammon.
-     * A Gammon occurs when the loser has not borne off any checkers
-     * and does not have checkers on the bar or in the winner's home board.
-     *
-     * @param winner the player who won the game.
-     * @param loser  the player who lost the game.
-     * @return true if the result is a Gammon, false otherwise.
-     */
-    private boolean isGammon(Player winner, Player loser) {
-        int loserBorneOffCount = boardService.getBearOffForPlayer(loser).size();
-        return loserBorneOffCount == 0 && !hasCheckersOnBarOrInWinnerHomeBoard(loser, winner);
-    }
-
-
-    /**
-     * Determines if the game result is a Backgammon.
-     * A Backgammon occurs when the loser has checkers on the bar
-     * or in the winner's home board.
-     *
-     * @param winner the player who won the game.
-     * @param loser  the player who lost the game.
-     * @return true if the result is a Backgammon, false otherwise.
-     */
-    private boolean isBackgammon(Player winner, Player loser) {
-        return hasCheckersOnBarOrInWinnerHomeBoard(loser, winner);
-    }
-
-    /**
-     * Checks if a player has checkers either on the bar or in the winner's home board.
-     *
-     * @param player the player being checked.
-     * @param winner the player who won the game.
-     * @return true if the player has checkers on the bar or in the winner's home board, false otherwise.
-     */
-    private boolean hasCheckersOnBarOrInWinnerHomeBoard(Player player, Player winner) {
-        boolean hasCheckersOnBar = !boardService.getBoard().getBarForPlayer(player).isEmpty();
-        boolean hasCheckersInWinnerHomeBoard = hasCheckersInHomeBoard(player, winner);
-        return hasCheckersOnBar || hasCheckersInWinnerHomeBoard;
-    }
-
-
-    /**
-     * Checks if a player has any checkers in the winner's home board.
-     *
-     * @param player the player being checked.
-     * @param winner the player who won the game.
-     * @return true if the player has checkers in the winner's home board, false otherwise.
-     */
-    private boolean hasCheckersInHomeBoard(Player player, Player winner) {
-        int homeStart, homeEnd;
-
-        if (winner.equals(matchManager.getPlayer1())) {
-            homeStart = PLAYER_1_HOME_START;
-            homeEnd = PLAYER_1_HOME_END;
-        } else {
-            homeStart = PLAYER_2_HOME_START;
-            homeEnd = PLAYER_2_HOME_END;
+        if (!engine.isGameOver()) {
+            return engine.getDoublingManager().getDoublingCube().getValue();
         }
 
-        for (int position = homeStart; position <= homeEnd; position++) {
-            List<Checker> checkers = boardService.getBoard().getPositions().getOrDefault(position, new ArrayList<>());
-            for (Checker checker : checkers) {
-                if (checker.getOwner().equals(player)) {
-                    return true;
-                }
-            }
+        int multiplier = engine.getResultMultiplier();
+        if (multiplier == GAMMON) {
+            System.out.println(GAMMON_MESSAGE);
+        } else if (multiplier == BACKGAMMON) {
+            System.out.println(BACKGAMMON_MESSAGE);
         }
-
-        return false;
+        return engine.getPoints();
     }
 
     /**
@@ -297,7 +209,7 @@ public class GameService {
      * @return true if either player has borne off all their checkers, false otherwise.
      */
     private boolean isGameOverCondition() {
-        return isAllCheckersBorneOff(matchManager.getPlayer1()) || isAllCheckersBorneOff(matchManager.getPlayer2());
+        return engine.isGameOver();
     }
 
     /**
@@ -326,6 +238,7 @@ public class GameService {
         System.out.println("\nCurrent Game State:");
         boardService.displayBoard();
 
+        Player currentPlayer = engine.getPlayerToMove();
         System.out.println("It's " + currentPlayer.getName() + "'s turn.");
         System.out.println(matchManager.getPlayer1().getName()==currentPlayer.getName()?"Your Checker is: (O)":"Your Checker is: (X)");
 
@@ -336,12 +249,13 @@ public class GameService {
      * Displays the current state of the doubling cube, including its value and owner.
      */
     private void displayDoublingCube(){
+        DoublingCube doublingCube = engine.getDoublingManager().getDoublingCube();
         System.out.println(HORIZONTAL_DIVIDER);
-        System.out.println("Doubling Cube Value: " + doublingManager.getDoublingCube().getValue());
-        if (doublingManager.getDoublingCube().getOwner() == null) {
+        System.out.println("Doubling Cube Value: " + doublingCube.getValue());
+        if (doublingCube.getOwner() == null) {
             System.out.println(DOUBLING_CUBE_NO_OWNER_MESSAGE);
         } else {
-            System.out.println("Doubling cube owned by: " + doublingManager.getDoublingCube().getOwner().getName());
+            System.out.println("Doubling cube owned by: " + doublingCube.getOwner().getName());
         }
         System.out.println(HORIZONTAL_DIVIDER);
     }
@@ -384,8 +298,8 @@ public class GameService {
             System.out.println(matchManager.getPlayer2().getName() + " rolled: " + rollPlayer2);
 
             if (rollPlayer1 != rollPlayer2) {
-                currentPlayer = rollPlayer1 > rollPlayer2 ? matchManager.getPlayer1() : matchManager.getPlayer2();
-                System.out.println(currentPlayer.getName() + " goes first!");
+                engine.setSideToMove(rollPlayer1 > rollPlayer2 ? PLAYER_1_SIDE : PLAYER_2_SIDE);
+                System.out.println(engine.getPlayerToMove().getName() + " goes first!");
                 break;
             }
 
@@ -397,7 +311,7 @@ public class GameService {
      * Toggles the current player between Player 1 and Player 2.
      */
     private void toggleCurrentPlayer() {
-        currentPlayer = currentPlayer.equals(matchManager.getPlayer1()) ? matchManager.getPlayer2() : matchManager.getPlayer1();
+        engine.endTurn();
     }
 
     /**
@@ -407,17 +321,8 @@ public class GameService {
      * @return the total pip count for the player.
      */
     private int calculatePipCount(Player player) {
-        int pipCount = 0;
-        int direction = (player == matchManager.getPlayer1()) ? PLAYER_1_MOVE_DIRECTION : PLAYER_2_MOVE_DIRECTION;
-        for (int position : boardService.getBoard().getPositions().keySet()) {
-            List<Checker> checkers = boardService.getBoard().getPositions().get(position);
-            for (Checker checker : checkers) {
-                if (checker.getOwner().equals(player)) {
-                    pipCount += Math.abs(position - (direction == PLAYER_1_MOVE_DIRECTION ? PLAYER_1_BEAR_OFF_POSITION : PLAYER_2_BEAR_OFF_POSITION));
-                }
-            }
-        }
-        return pipCount;
+        Board board = boardService.getBoard();
+        return board.getPipCount(board.sideOf(player));
     }
 
     /**
@@ -428,16 +333,16 @@ public class GameService {
      * @param roll2  the value of the second die.
      */
     private void playRoll(Player player, int roll1, int roll2) {
-        List<Integer> rolls = generateRolls(roll1, roll2);
+        int[] rolls = generateRolls(roll1, roll2);
 
-        while (!rolls.isEmpty()) {
-            List<String> options = generateMoveOptions(player, rolls);
-            if (options.isEmpty()) {
+        while (hasRemainingRolls(rolls)) {
+            generateMoveOptions(rolls);
+            if (moveOptions.isEmpty()) {
                 System.out.println(CommonConstants.NO_LEGAL_MOVES_MESSAGE);
                 break;
             }
 
-            displayMoveOptions(options);
+            displayMoveOptions(moveOptions);
 
             char selectedOption;
             if (isFileInputMode) {
@@ -451,13 +356,13 @@ public class GameService {
                 } catch (IOException e) {
                     System.out.println("Error reading from test file. Switching back to manual input.");
                     isFileInputMode = false;
-                    selectedOption = getUserSelection(options.size());
+                    selectedOption = getUserSelection(moveOptions.size(), rolls);
                 }
             } else {
-                selectedOption = getUserSelection(options.size());
+                selectedOption = getUserSelection(moveOptions.size(), rolls);
             }
 
-            boolean successfulMove = executeSelectedOption(selectedOption, options, rolls);
+            boolean successfulMove = executeSelectedOption(selectedOption, moveOptions, rolls);
 
             if (!successfulMove) {
                 System.out.println(CommonConstants.INVALID_SELECTION_MESSAGE);
@@ -472,95 +377,73 @@ public class GameService {
      *
      * @param options the list of move options.
      */
-    private void displayMoveOptions(List<String> options) {
+    private void displayMoveOptions(MoveList options) {
         System.out.println("Available move options:");
         char optionLetter = 'A';
-        for (String option : options) {
-            System.out.println(optionLetter + ") " + option);
+        for (int i = 0; i < options.size(); i++) {
+            System.out.println(optionLetter + ") " + Move.format(options.get(i)));
             optionLetter++;
         }
     }
 
     /**
-     * Generates a list of dice rolls based on the rolled values.
+     * Generates the dice rolls based on the rolled values.
      * If the dice show the same value, four identical rolls are generated.
      *
      * @param roll1 the value of the first die.
      * @param roll2 the value of the second die.
-     * @return a list of dice rolls.
+     * @return the dice rolls; a roll is set to 0 once it has been used.
      */
-    private List<Integer> generateRolls(int roll1, int roll2) {
-        List<Integer> rolls = new ArrayList<>();
+    private int[] generateRolls(int roll1, int roll2) {
         if (roll1 == roll2) {
-            for (int i = 0; i < 4; i++) rolls.add(roll1);
-        } else {
-            rolls.add(roll1);
-            rolls.add(roll2);
+            return new int[]{roll1, roll1, roll1, roll1};
         }
-        return rolls;
+        return new int[]{roll1, roll2};
     }
 
     /**
-     * Generates a list of all legal move options for the current player based on the dice rolls.
+     * Checks whether any dice roll is still unused.
      *
-     * @param player the player whose move options are being generated.
-     * @param rolls  the list of available dice rolls.
-     * @return a list of legal move options as strings.
+     * @param rolls the dice rolls.
+     * @return true if at least one roll remains.
      */
-    private List<String> generateMoveOptions(Player player, List<Integer> rolls) {
-        List<Checker> barCheckers = boardService.getBoard().getBarForPlayer(player);
-        if (!barCheckers.isEmpty()) {
-            return deDuplicateMoves(generateBarEntryMoves(player, rolls));
+    private boolean hasRemainingRolls(int[] rolls) {
+        for (int roll : rolls) {
+            if (roll != 0) {
+                return true;
+            }
         }
-        return deDuplicateMoves(boardService.getBoard().getLegalMoves(player, rolls));
+        return false;
     }
 
     /**
-     * Removes duplicate move options from the provided list.
+     * Fills {@code moveOptions} with the legal move options for the current player based on the dice rolls.
      *
-     * @param allMoves the list of all moves, potentially containing duplicates.
-     * @return a list of unique move options.
+     * @param rolls the remaining dice rolls.
      */
-    private List<String> deDuplicateMoves(List<String> allMoves) {
-        return new ArrayList<>(new HashSet<>(allMoves));
+    private void generateMoveOptions(int[] rolls) {
+        engine.generateMoves(rolls, moveOptions);
     }
 
-    /**
-     * Generates a list of legal moves for entering checkers from the bar onto the board.
-     *
-     * @param player the player attempting to move checkers from the bar.
-     * @param rolls  the list of available dice rolls.
-     * @return a list of bar entry moves as strings.
-     */
-    private List<String> generateBarEntryMoves(Player player, List<Integer> rolls) {
-        List<String> barEntryMoves = new ArrayList<>();
-        int homeStart = (player == matchManager.getPlayer1()) ? PLAYER_2_HOME_START : PLAYER_1_HOME_START;
-        int homeEnd = (player == matchManager.getPlayer1()) ? PLAYER_2_HOME_END : PLAYER_1_HOME_END;
-
-        for (int roll : rolls) {
-            int targetPosition = (player == matchManager.getPlayer1()) ? roll : (PLAYER_1_BEAR_OFF_POSITION - roll);
-            if (targetPosition >= homeStart && targetPosition <= homeEnd) {
-                if (boardService.getBoard().canEnterFromBar(player, targetPosition)) {
-                    barEntryMoves.add("BAR -> " + targetPosition);
-                }
-            }
-        }
-        return barEntryMoves;
-    }
-
-
     /**
      * Prompts the user to select an option from a list of available moves.
+     * Entering HINT shows the suggested play for the remaining dice instead.
      *
      * @param numOptions the number of available options.
+     * @param rolls      the remaining dice rolls.
      * @return the selected option as a character.
      */
-    private char getUserSelection(int numOptions) {
+    private char getUserSelection(int numOptions, int[] rolls) {
         while (true) {
             try {
                 System.out.print("Enter the option letter: ");
                 String input = commandParser.getUserInput();
 
+                if (input.equalsIgnoreCase(CommandType.HINT.name())) {
+                    displayHint(rolls);
+                    continue;
+                }
+
                 if (input.length() == 1) {
                     char selectedOption = Character.toUpperCase(input.charAt(0));
                     if (selectedOption >= 'A' && selectedOption < ('A' + numOptions)) {
@@ -575,46 +458,72 @@ public class GameService {
         }
     }
 
+    /**
+     * Returns the evaluator used for hints, creating it on first use. If its files cannot be loaded, the problem is
+     * reported and pip counts are used instead.
+     *
+     * @return the evaluator.
+     */
+    private Evaluator getEvaluator() {
+        if (evaluator == null) {
+            try {
+                evaluator = Evaluator.createDefault();
+            } catch (IOException | IllegalArgumentException e) {
+                System.out.println("Could not load the hint evaluator, using pip counts instead: " + e);
+                evaluator = new PipCountEvaluator();
+            }
+        }
+        return evaluator;
+    }
+
+    /**
+     * Displays the play the evaluator rates best for the remaining dice.
+     *
+     * @param rolls the remaining dice rolls.
+     */
+    private void displayHint(int[] rolls) {
+        Evaluator evaluator = getEvaluator();
+        Board board = engine.getBoard();
+        int side = engine.getSideToMove();
+        Play best = evaluator.choosePlay(board, side, engine.getLegalPlays(rolls));
+
+        best.apply(board);
+        evaluator.evaluate(board, 1 - side, evaluation);
+        best.undo(board);
+        System.out.printf("Hint: %s (equity %+.3f)%n", best, -Evaluator.equity(evaluation));
+    }
+
+    /**
+     * Displays the suggested answer to the pending double, from the cubeful equities of the doubling side.
+     */
+    private void displayCubeHint() {
+        CubeDecision decision = new CubeDecisionEngine(getEvaluator()).analyze(engine);
+        System.out.printf("Hint: %s (%s)%n", decision.shouldTake() ? "accept" : "refuse", decision);
+    }
+
     /**
      * Executes the move option selected by the user.
      *
      * @param selectedOption the selected option letter.
      * @param options        the list of available options.
-     * @param rolls          the list of remaining dice rolls.
+     * @param rolls          the remaining dice rolls; the roll used is set to 0.
      * @return true if the move was successfully executed, false otherwise.
      */
-    private boolean executeSelectedOption(char selectedOption, List<String> options, List<Integer> rolls) {
+    private boolean executeSelectedOption(char selectedOption, MoveList options, int[] rolls) {
         int optionIndex = selectedOption - 'A';
         if (optionIndex >= 0 && optionIndex < options.size()) {
-            String chosenMove = options.get(optionIndex);
-            System.out.println("You chose: " + chosenMove);
-
-            int toPosition;
-            int rollUsed;
-
-            if (chosenMove.startsWith(BAR)) {
-                toPosition = Integer.parseInt(chosenMove.split(" -> ")[1].trim());
-                boardService.getBoard().enterFromBar(currentPlayer, toPosition);
+            int chosenMove = options.get(optionIndex);
+            System.out.println("You chose: " + Move.format(chosenMove));
 
-                rollUsed = Math.abs((currentPlayer == matchManager.getPlayer1() ? PLAYER_2_BEAR_OFF_POSITION : PLAYER_1_BEAR_OFF_POSITION) - toPosition);
-            } else if(chosenMove.endsWith(OFF)) {
-                int fromPosition = Integer.parseInt(chosenMove.split(" -> ")[0].trim());
-                boardService.getBoard().bearOffChecker(currentPlayer, fromPosition);
+            engine.applyMove(chosenMove);
 
-                rollUsed = rolls.stream()
-                        .filter(roll -> roll >= Math.abs((currentPlayer == matchManager.getPlayer1()? PLAYER_1_BEAR_OFF_POSITION: PLAYER_2_BEAR_OFF_POSITION) - fromPosition)).findFirst()
-                        .orElseThrow(() -> new IllegalStateException(NO_VALID_ROLLS_MESSAGE));
-            } else {
-                String[] moveParts = chosenMove.split(" -> ");
-                int fromPosition = Integer.parseInt(moveParts[0].trim());
-                toPosition = Integer.parseInt(moveParts[1].trim());
-                boardService.getBoard().makeMove(currentPlayer, fromPosition, toPosition);
-
-                rollUsed = Math.abs(toPosition - fromPosition);
+            for (int i = 0; i < rolls.length; i++) {
+                if (rolls[i] == Move.die(chosenMove)) {
+                    rolls[i] = 0;
+                    break;
+                }
             }
 
-            rolls.remove(Integer.valueOf(rollUsed));
-
             return true;
         }
         return false;
@@ -626,22 +535,17 @@ public class GameService {
      * @throws InvalidCommandException if the doubling offer is invalid.
      */
     public void offerDouble() throws InvalidCommandException {
-        if (null != doublingManager.getDoublingCube().getOwner() && doublingManager.getDoublingCube().getOwner() != currentPlayer) {
-            throw new InvalidCommandException("You cannot offer the doubling cube!");
-        }
+        engine.offerDouble();
 
         System.out.println(HORIZONTAL_DIVIDER);
-        System.out.printf("%s offers to double the stakes to %d.%n", currentPlayer.getName(), doublingManager.getDoublingCube().getValue() * 2);
-
-        Player opponent = getOpponentPlayer();
-        doublingManager.setPlayerToRespond(opponent);
-        toggleCurrentPlayer();
+        System.out.printf("%s offers to double the stakes to %d.%n", engine.getPlayerToMove().getName(), engine.getDoublingManager().getDoublingCube().getValue() * 2);
 
-        handleDoublingResponse(opponent);
+        handleDoublingResponse(getOpponentPlayer());
     }
 
     /**
      * Handles the response to a doubling cube offer, allowing the opponent to accept or refuse.
+     * Entering HINT shows the suggested answer instead.
      *
      * @param opponent the opponent responding to the doubling offer.
      */
@@ -656,6 +560,9 @@ public class GameService {
                 } else if (command.getType() == CommandType.REFUSE) {
                     refuseDouble();
                     return;
+                } else if (command.getType() == CommandType.HINT) {
+                    displayCubeHint();
+                    continue;
                 }
             } catch (InvalidCommandException e) {
                 System.out.println(e.getMessage());
@@ -668,37 +575,21 @@ public class GameService {
     /**
      * Handles the player's acceptance of a doubling offer, doubling the cube value.
      *
-     * @throws InvalidCommandException if it's not the player's turn to respond.
+     * @throws InvalidCommandException if no double has been offered.
      */
     public void acceptDouble() throws InvalidCommandException {
-        if (!currentPlayer.equals(doublingManager.getPlayerToRespond())) {
-            throw new InvalidCommandException(DOUBLING_CUBE_ERROR_MESSAGE);
-        }
-
-        doublingManager.getDoublingCube().doubleValue(currentPlayer);
-        doublingManager.setPlayerToRespond(null);
-        System.out.println(currentPlayer.getName() + " accepts the double. The stakes are now " + doublingManager.getDoublingCube().getValue() + ".");
+        engine.acceptDouble();
+        System.out.println(getOpponentPlayer().getName() + " accepts the double. The stakes are now " + engine.getDoublingManager().getDoublingCube().getValue() + ".");
     }
 
     /**
-     * Handles the player's refusal of a doubling offer, ending the game and awarding points to the opponent.
+     * Handles the player's refusal of a doubling offer, ending the game in favour of the doubling player.
      *
-     * @throws InvalidCommandException if it's not the player's turn to respond.
+     * @throws InvalidCommandException if no double has been offered.
      */
     public void refuseDouble() throws InvalidCommandException {
-        if (!currentPlayer.equals(doublingManager.getPlayerToRespond())) {
-            throw new InvalidCommandException(DOUBLING_CUBE_ERROR_MESSAGE);
-        }
-
-        Player winner = getOpponentPlayer();
-        int points = doublingManager.getDoublingCube().getValue();
-        matchManager.incrementScore(winner, points);
-
-        System.out.println(currentPlayer.getName() + " refuses the double. ");
-
-        doublingManager.getDoublingCube().reset();
-        doublingManager.setPlayerToRespond(null);
-        setGameOver(true);
+        engine.refuseDouble();
+        System.out.println(getOpponentPlayer().getName() + " refuses the double. ");
     }
 
     /**
@@ -707,7 +598,7 @@ public class GameService {
      * @return the opponent player.
      */
     private Player getOpponentPlayer() {
-        return currentPlayer.equals(matchManager.getPlayer1()) ? matchManager.getPlayer2() : matchManager.getPlayer1();
+        return engine.getBoard().getPlayer(1 - engine.getSideToMove());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Match equity table: the chance of winning a match from a score, looked up in constant time.
+ * <p>
+ * A match here lasts a fixed number of games and goes to the side with more points at the end, a tie counting
+ * as half a win. The state of a match between games is therefore the number of games left and the lead of one
+ * side in points, and the table holds the winning chance for every pair in a flat {@code float} array. Leads
+ * beyond the table's range are clamped, where the chance is all but certain.
+ * <p>
+ * Tables are generated from gammon and backgammon rates, assuming every remaining game is an even game played
+ * for a stake of one, or read from a file written by {@link #write(Path)}. The default table is generated once
+ * and shared.
+ */
+public class MatchEquityTable {
+    /**
+     * Most games left covered by the default table.
+     */
+    public static final int DEFAULT_MAX_GAMES = 64;
+
+    /**
+     * Largest lead covered by the default table.
+     */
+    public static final int DEFAULT_MAX_LEAD = 256;
+
+    /**
+     * Share of games won with a gammon or backgammon assumed by the default table.
+     */
+    public static final float DEFAULT_GAMMON_RATE = 0.26f;
+
+    /**
+     * Share of games won with a backgammon assumed by the default table.
+     */
+    public static final float DEFAULT_BACKGAMMON_RATE = 0.015f;
+
+    private static final int MAX_POINTS = 3;
+
+    private final int maxGames;
+    private final int maxLead;
+    private final int width;
+    private final float[] chances;
+
+    /**
+     * Creates a table from its winning chances.
+     *
+     * @param maxGames the most games left covered.
+     * @param maxLead  the largest lead covered.
+     * @param chances  the winning chances, row by row for 0 to {@code maxGames} games left, each row by lead from
+     *                 {@code -maxLead} to {@code maxLead}.
+     */
+    private MatchEquityTable(int maxGames, int maxLead, float[] chances) {
+        this.maxGames = maxGames;
+        this.maxLead = maxLead;
+        this.width = 2 * maxLead + 1;
+        this.chances = chances;
+    }
+
+    /**
+     * Returns the shared table generated with the default rates and bounds.
+     *
+     * @return the default table.
+     */
+    public static MatchEquityTable getDefault() {
+        return DefaultHolder.TABLE;
+    }
+
+    /**
+     * Generates a table assuming every remaining game is even and played for a stake of one.
+     *
+     * @param maxGames       the most games left to cover.
+     * @param maxLead        the largest lead to cover.
+     * @param gammonRate     the share of games won with a gammon, backgammons included.
+     * @param backgammonRate the share of games won with a backgammon.
+     * @return the table.
+     */
+    public static MatchEquityTable generate(int maxGames, int maxLead, float gammonRate, float backgammonRate) {
+        if (maxGames < 0 || maxLead < MAX_POINTS) {
+            throw new IllegalArgumentException("Invalid table bounds: " + maxGames + " games, lead " + maxLead);
+        }
+        if (backgammonRate < 0 || gammonRate < backgammonRate || gammonRate > 1) {
+            throw new IllegalArgumentException("Invalid gammon rates: " + gammonRate + ", " + backgammonRate);
+        }
+        float[] outcomes = {(1 - gammonRate) / 2, (gammonRate - backgammonRate) / 2, backgammonRate / 2};
+        int width = 2 * maxLead + 1;
+        float[] chances = new float[(maxGames + 1) * width];
+        for (int lead = -maxLead; lead <= maxLead; lead++) {
+            chances[lead + maxLead] = lead > 0 ? 1 : lead == 0 ? 0.5f : 0;
+        }
+        for (int games = 1; games <= maxGames; games++) {
+            int previous = (games - 1) * width;
+            int row = games * width;
+            for (int lead = -maxLead; lead <= maxLead; lead++) {
+                float chance = 0;
+                for (int points = 1; points <= MAX_POINTS; points++) {
+                    float win = chances[previous + Math.min(lead + points, maxLead) + maxLead];
+                    float loss = chances[previous + Math.max(lead - points, -maxLead) + maxLead];
+                    chance += outcomes[points - 1] * (win + loss);
+                }
+                chances[row + lead + maxLead] = chance;
+            }
+        }
+        return new MatchEquityTable(maxGames, maxLead, chances);
+    }
+
+    /**
+     * Reads a table written by {@link #write(Path)}. Blank lines and text after {@code #} are ignored.
+     *
+     * @param file the file to read.
+     * @return the table.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a valid table.
+     */
+    public static MatchEquityTable read(Path file) throws IOException {
+        List<String> tokens = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            int comment = line.indexOf('#');
+            String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (!content.isEmpty()) {
+                tokens.addAll(List.of(content.split("\\s+")));
+            }
+        }
+        try {
+            int maxGames = Integer.parseInt(tokens.get(0));
+            int maxLead = Integer.parseInt(tokens.get(1));
+            int size = (maxGames + 1) * (2 * maxLead + 1);
+            if (maxGames < 0 || maxLead < 0 || tokens.size() != size + 2) {
+                throw new IllegalArgumentException("Match equity table " + file + " should hold " + size
+                        + " chances for " + maxGames + " games and lead " + maxLead);
+            }
+            float[] chances = new float[size];
+            for (int i = 0; i < size; i++) {
+                chances[i] = Float.parseFloat(tokens.get(i + 2));
+                if (!(chances[i] >= 0 && chances[i] <= 1)) {
+                    throw new IllegalArgumentException("Invalid winning chance " + tokens.get(i + 2) + " in " + file);
+                }
+            }
+            return new MatchEquityTable(maxGames, maxLead, chances);
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid match equity table " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the table as text: the bounds, then one line of winning chances per number of games left.
+     *
+     * @param file the file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(Path file) throws IOException {
+        StringBuilder text = new StringBuilder("# games leads, then chances by games left and lead\n");
+        text.append(maxGames).append(' ').append(maxLead).append('\n');
+        for (int games = 0; games <= maxGames; games++) {
+            for (int i = 0; i < width; i++) {
+                text.append(i == 0 ? "" : " ").append(String.format(Locale.ROOT, "%.6f", chances[games * width + i]));
+            }
+            text.append('\n');
+        }
+        Files.writeString(file, text);
+    }
+
+    /**
+     * Returns the chance of winning the match.
+     *
+     * @param gamesLeft the number of games still to play; clamped to the table.
+     * @param lead      the side's score minus the opponent's; clamped to the table.
+     * @return the winning chance, counting a tied match as half a win.
+     */
+    public float getWinningChance(int gamesLeft, int lead) {
+        int games = Math.min(Math.max(gamesLeft, 0), maxGames);
+        int clamped = Math.min(Math.max(lead, -maxLead), maxLead);
+        return chances[games * width + clamped + maxLead];
+    }
+
+    /**
+     * Returns the match equity: the winning chance scaled to run from -1 for a certain loss to 1 for a certain
+     * win.
+     *
+     * @param gamesLeft the number of games still to play; clamped to the table.
+     * @param lead      the side's score minus the opponent's; clamped to the table.
+     * @return the match equity.
+     */
+    public float getEquity(int gamesLeft, int lead) {
+        return 2 * getWinningChance(gamesLeft, lead) - 1;
+    }
+
+    /**
+     * Returns the most games left the table covers.
+     *
+     * @return the number of games.
+     */
+    public int getMaxGames() {
+        return maxGames;
+    }
+
+    /**
+     * Returns the largest lead the table covers.
+     *
+     * @return the lead.
+     */
+    public int getMaxLead() {
+        return maxLead;
+    }
+
+    /**
+     * Holds the default table, generated on first use.
+     */
+    private static final class DefaultHolder {
+        private static final MatchEquityTable TABLE = generate(DEFAULT_MAX_GAMES, DEFAULT_MAX_LEAD,
+                DEFAULT_GAMMON_RATE, DEFAULT_BACKGAMMON_RATE);
+    }
+}
@@ -0,0 +1,258 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package service;
+
+import model.DoublingCube;
+import model.Player;
+
+import java.util.Base64;
+
+import static util.CommonConstants.*;
+
+/**
+ * Match state in the standard 12-character match ID format: cube value and owner, side on roll, dice, match
+ * length and both scores.
+ * <p>
+ * The ID is a 66-bit key written with the base64 alphabet, with bits filling each byte from the least significant
+ * end. Fields, in order and with their widths: log2 of the cube value (4), cube owner (2; 3 when centered), side on
+ * roll (1), Crawford flag (1), game state (3), side to decide (1), double offered (1), resignation (2), the two dice
+ * (3 each), match length (15) and the scores of Player 1 and Player 2 (15 each).
+ */
+public final class MatchId {
+    /**
+     * Cube owner value used while the cube is in the middle.
+     */
+    public static final int CENTERED = 3;
+
+    private static final int KEY_BYTES = 9;
+    private static final int GAME_PLAYING = 1;
+    private static final int SCORE_BITS = 15;
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private final int cubeValue;
+    private final int cubeOwner;
+    private final int sideOnRoll;
+    private final boolean doubleOffered;
+    private final int die1;
+    private final int die2;
+    private final int matchLength;
+    private final int player1Score;
+    private final int player2Score;
+
+    /**
+     * Creates a match ID from its fields.
+     *
+     * @param cubeValue     the cube value (a power of two).
+     * @param cubeOwner     the side owning the cube, or {@link #CENTERED}.
+     * @param sideOnRoll    the side to move.
+     * @param doubleOffered whether a double is waiting for an answer.
+     * @param die1          the first die, or 0 if the dice have not been rolled.
+     * @param die2          the second die, or 0 if the dice have not been rolled.
+     * @param matchLength   the match length.
+     * @param player1Score  the score of Player 1.
+     * @param player2Score  the score of Player 2.
+     */
+    public MatchId(int cubeValue, int cubeOwner, int sideOnRoll, boolean doubleOffered, int die1, int die2,
+                   int matchLength, int player1Score, int player2Score) {
+        this.cubeValue = cubeValue;
+        this.cubeOwner = cubeOwner;
+        this.sideOnRoll = sideOnRoll;
+        this.doubleOffered = doubleOffered;
+        this.die1 = die1;
+        this.die2 = die2;
+        this.matchLength = matchLength;
+        this.player1Score = player1Score;
+        this.player2Score = player2Score;
+    }
+
+    /**
+     * Captures the state of a match in progress.
+     *
+     * @param matchManager    the match scores and length.
+     * @param doublingManager the doubling cube and any pending double.
+     * @param sideOnRoll      the side to move.
+     * @param die1            the first die, or 0 if the dice have not been rolled.
+     * @param die2            the second die, or 0 if the dice have not been rolled.
+     * @return the match ID.
+     */
+    public static MatchId of(MatchManager matchManager, DoublingManager doublingManager, int sideOnRoll, int die1, int die2) {
+        DoublingCube cube = doublingManager.getDoublingCube();
+        Player owner = cube.getOwner();
+        int cubeOwner = owner == null ? CENTERED : owner.equals(matchManager.getPlayer1()) ? PLAYER_1_SIDE : PLAYER_2_SIDE;
+        return new MatchId(cube.getValue(), cubeOwner, sideOnRoll, doublingManager.getPlayerToRespond() != null,
+                die1, die2, matchManager.getMatchLength(), matchManager.getPlayer1Score(), matchManager.getPlayer2Score());
+    }
+
+    /**
+     * Decodes a match ID.
+     *
+     * @param matchId the 12-character match ID.
+     * @return the decoded match state.
+     * @throws IllegalArgumentException if the ID is malformed.
+     */
+    public static MatchId decode(String matchId) {
+        byte[] key = DECODER.decode(matchId);
+        if (key.length != KEY_BYTES) {
+            throw new IllegalArgumentException("Invalid match ID: " + matchId);
+        }
+        int sideOnRoll = readBits(key, 6, 1);
+        boolean doubleOffered = readBits(key, 12, 1) == 1;
+        return new MatchId(1 << readBits(key, 0, 4), readBits(key, 4, 2), sideOnRoll, doubleOffered,
+                readBits(key, 15, 3), readBits(key, 18, 3), readBits(key, 21, SCORE_BITS),
+                readBits(key, 36, SCORE_BITS), readBits(key, 51, SCORE_BITS));
+    }
+
+    /**
+     * Encodes this match state.
+     *
+     * @return the 12-character match ID.
+     * @throws IllegalArgumentException if a field does not fit its width.
+     */
+    public String encode() {
+        byte[] key = new byte[KEY_BYTES];
+        writeBits(key, 0, 4, Integer.numberOfTrailingZeros(cubeValue));
+        writeBits(key, 4, 2, cubeOwner);
+        writeBits(key, 6, 1, sideOnRoll);
+        writeBits(key, 8, 3, GAME_PLAYING);
+        writeBits(key, 11, 1, doubleOffered ? 1 - sideOnRoll : sideOnRoll);
+        writeBits(key, 12, 1, doubleOffered ? 1 : 0);
+        writeBits(key, 15, 3, die1);
+        writeBits(key, 18, 3, die2);
+        writeBits(key, 21, SCORE_BITS, matchLength);
+        writeBits(key, 36, SCORE_BITS, player1Score);
+        writeBits(key, 51, SCORE_BITS, player2Score);
+        return ENCODER.encodeToString(key);
+    }
+
+    /**
+     * Writes an unsigned field into the key.
+     *
+     * @param key   the key being filled.
+     * @param start the index of the field's lowest bit.
+     * @param width the number of bits in the field.
+     * @param value the field value.
+     */
+    private static void writeBits(byte[] key, int start, int width, int value) {
+        if (value < 0 || value >= 1 << width) {
+            throw new IllegalArgumentException("Value " + value + " does not fit in a match ID field.");
+        }
+        for (int i = 0; i < width; i++) {
+            if ((value & (1 << i)) != 0) {
+                key[(start + i) >>> 3] |= (byte) (1 << ((start + i) & 7));
+            }
+        }
+    }
+
+    /**
+     * Reads an unsigned field from the key.
+     *
+     * @param key   the decoded key.
+     * @param start the index of the field's lowest bit.
+     * @param width the number of bits in the field.
+     * @return the field value.
+     */
+    private static int readBits(byte[] key, int start, int width) {
+        int value = 0;
+        for (int i = 0; i < width; i++) {
+            if ((key[(start + i) >>> 3] & (1 << ((start + i) & 7))) != 0) {
+                value |= 1 << i;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the cube value.
+     *
+     * @return the cube value.
+     */
+    public int getCubeValue() {
+        return cubeValue;
+    }
+
+    /**
+     * Returns the side owning the cube.
+     *
+     * @return the owning side, or {@link #CENTERED}.
+     */
+    public int getCubeOwner() {
+        return cubeOwner;
+    }
+
+    /**
+     * Returns the side to move.
+     *
+     * @return the side index.
+     */
+    public int getSideOnRoll() {
+        return sideOnRoll;
+    }
+
+    /**
+     * Returns whether a double is waiting for an answer.
+     *
+     * @return true if a double has been offered.
+     */
+    public boolean isDoubleOffered() {
+        return doubleOffered;
+    }
+
+    /**
+     * Returns the first die.
+     *
+     * @return the die value, or 0 if the dice have not been rolled.
+     */
+    public int getDie1() {
+        return die1;
+    }
+
+    /**
+     * Returns the second die.
+     *
+     * @return the die value, or 0 if the dice have not been rolled.
+     */
+    public int getDie2() {
+        return die2;
+    }
+
+    /**
+     * Returns the match length.
+     *
+     * @return the match length.
+     */
+    public int getMatchLength() {
+        return matchLength;
+    }
+
+    /**
+     * Returns the score of Player 1.
+     *
+     * @return the score.
+     */
+    public int getPlayer1Score() {
+        return player1Score;
+    }
+
+    /**
+     * Returns the score of Player 2.
+     *
+     * @return the score.
+     */
+    public int getPlayer2Score() {
+        return player2Score;
+    }
+}
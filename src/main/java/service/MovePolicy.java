@@ -0,0 +1,56 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package service;
+
+import model.Play;
+
+import java.util.List;
+
+/**
+ * Strategy that decides the moves and cube actions of one side in an automated game.
+ * Implementations may be called from several threads at once and must not keep per-game state.
+ */
+public interface MovePolicy {
+
+    /**
+     * Chooses the play to make for the current roll.
+     *
+     * @param engine the game, with the policy's side to move.
+     * @param plays  the legal plays for the roll; never empty.
+     * @return one of the given plays.
+     */
+    Play choosePlay(GameEngine engine, List<Play> plays);
+
+    /**
+     * Decides whether to offer a double before rolling. Only called when doubling is allowed.
+     *
+     * @param engine the game, with the policy's side to move.
+     * @return true to offer a double.
+     */
+    default boolean shouldDouble(GameEngine engine) {
+        return false;
+    }
+
+    /**
+     * Decides whether to take a double offered by the opponent.
+     *
+     * @param engine the game, with the opponent to move.
+     * @return true to accept, false to refuse.
+     */
+    default boolean shouldAccept(GameEngine engine) {
+        return true;
+    }
+}
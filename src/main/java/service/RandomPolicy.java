@@ -0,0 +1,32 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package service;
+
+import model.Play;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Move policy that picks uniformly among the legal plays and never doubles. Useful as a baseline opponent.
+ */
+public class RandomPolicy implements MovePolicy {
+
+    @Override
+    public Play choosePlay(GameEngine engine, List<Play> plays) {
+        return plays.get(ThreadLocalRandom.current().nextInt(plays.size()));
+    }
+}
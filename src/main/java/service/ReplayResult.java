@@ -0,0 +1,112 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+
+package service;
+
+import model.Board;
+import model.PositionId;
+
+import static util.CommonConstants.*;
+
+/**
+ * The final state of a replayed command script, with counts of what the replay did.
+ */
+public class ReplayResult {
+    private final GameEngine engine;
+    private final int linesReplayed;
+    private final int movesPlayed;
+    private final int invalidLines;
+
+    /**
+     * Creates a result.
+     *
+     * @param engine        the game as the script left it.
+     * @param linesReplayed the number of script lines used, including those of nested scripts.
+     * @param movesPlayed   the number of checker moves played.
+     * @param invalidLines  the number of lines that were neither a usable command nor a valid option letter.
+     */
+    ReplayResult(GameEngine engine, int linesReplayed, int movesPlayed, int invalidLines) {
+        this.engine = engine;
+        this.linesReplayed = linesReplayed;
+        this.movesPlayed = movesPlayed;
+        this.invalidLines = invalidLines;
+    }
+
+    /**
+     * Returns the game as the script left it.
+     *
+     * @return the game.
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Returns the position ID of the final position, for the side on roll.
+     *
+     * @return the position ID.
+     */
+    public String getPositionId() {
+        return PositionId.encode(engine.getBoard(), engine.getSideToMove());
+    }
+
+    /**
+     * Returns the number of script lines used.
+     *
+     * @return the number of lines, including those of nested scripts.
+     */
+    public int getLinesReplayed() {
+        return linesReplayed;
+    }
+
+    /**
+     * Returns the number of checker moves played.
+     *
+     * @return the number of moves.
+     */
+    public int getMovesPlayed() {
+        return movesPlayed;
+    }
+
+    /**
+     * Returns the number of lines that were neither a usable command nor a valid option letter.
+     *
+     * @return the number of invalid lines.
+     */
+    public int getInvalidLines() {
+        return invalidLines;
+    }
+
+    /**
+     * Formats the final state as one tab separated line: the position ID, the side on roll, both pip counts, the
+     * cube value, the winning side or {@code -}, and the moves played and invalid lines.
+     *
+     * @return the formatted state.
+     */
+    @Override
+    public String toString() {
+        Board board = engine.getBoard();
+        return getPositionId()
+                + "\t" + engine.getSideToMove()
+                + "\t" + board.getPipCount(PLAYER_1_SIDE)
+                + "\t" + board.getPipCount(PLAYER_2_SIDE)
+                + "\t" + engine.getDoublingManager().getDoublingCube().getValue()
+                + "\t" + (engine.isGameOver() ? String.valueOf(engine.getWinner()) : "-")
+                + "\t" + movesPlayed
+                + "\t" + invalidLines;
+    }
+}
@@ -0,0 +1,338 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package service;
+
+import model.Board;
+import model.BufferedDiceSource;
+import model.DiceSource;
+import model.DoublingCube;
+import model.Evaluator;
+import model.NPlySearch;
+import model.Play;
+import model.PlayCache;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+import static util.CommonConstants.*;
+
+/**
+ * Estimates the equity of a position by playing it out to the end many times.
+ * <p>
+ * The trials are split recursively into fork-join tasks. Every task gets its own random generator, split from its
+ * parent's so a rollout with a given seed is reproducible and rolled in bulk through a {@link BufferedDiceSource},
+ * and its own copy of the board, and collects its own
+ * {@link RolloutResult}; results are merged as the tasks join, so workers never share mutable state.
+ * <p>
+ * Two options reduce the number of trials needed for a given standard error:
+ * <ul>
+ *     <li>Rotated dice: the rolls of the first {@value #ROTATED_TURNS} turns are stratified instead of random, so
+ *     every block of 36 trials starts with each of the 36 rolls exactly once, and every block of 1296 trials
+ *     covers each pair of opening rolls once.</li>
+ *     <li>Luck adjustment: after every roll, the difference between the equity of the best play for that roll and
+ *     the average over all rolls is charged to the side that rolled and taken off the trial's score, leaving
+ *     mostly the effect of the play itself.</li>
+ * </ul>
+ * Options must not be changed while a rollout is running.
+ */
+public class RolloutEngine {
+    public static final int DEFAULT_TRIALS_PER_TASK = 64;
+
+    /**
+     * Turns after which a trial is abandoned. Policies that keep hitting each other can otherwise play one game
+     * for ever.
+     */
+    public static final int TURN_LIMIT = 10_000;
+
+    /**
+     * Number of turns at the start of each trial whose rolls are stratified when rotated dice are enabled.
+     */
+    public static final int ROTATED_TURNS = 2;
+
+    private static final int DIE_FACES = 6;
+    private static final int ROLLS = DIE_FACES * DIE_FACES;
+
+    private final MovePolicy[] policies;
+    private final ForkJoinPool pool;
+    private final int trialsPerTask;
+    private boolean rotatedDice;
+    private Supplier<Evaluator> luckEvaluator;
+    private PlayCache playCache = new PlayCache();
+
+    /**
+     * Creates a rollout engine where both sides use the same policy, running on the common pool.
+     *
+     * @param policy the policy playing both sides.
+     */
+    public RolloutEngine(MovePolicy policy) {
+        this(policy, policy, ForkJoinPool.commonPool(), DEFAULT_TRIALS_PER_TASK);
+    }
+
+    /**
+     * Creates a rollout engine.
+     *
+     * @param policy1       the policy playing Player 1.
+     * @param policy2       the policy playing Player 2.
+     * @param pool          the pool the trials run on.
+     * @param trialsPerTask the most trials a task plays without splitting further.
+     */
+    public RolloutEngine(MovePolicy policy1, MovePolicy policy2, ForkJoinPool pool, int trialsPerTask) {
+        if (trialsPerTask <= 0) {
+            throw new IllegalArgumentException("Trials per task must be positive: " + trialsPerTask);
+        }
+        this.policies = new MovePolicy[]{policy1, policy2};
+        this.pool = pool;
+        this.trialsPerTask = trialsPerTask;
+    }
+
+    /**
+     * Enables or disables stratified rolls for the first {@value #ROTATED_TURNS} turns of each trial.
+     *
+     * @param rotatedDice true to rotate the early rolls.
+     */
+    public void setRotatedDice(boolean rotatedDice) {
+        this.rotatedDice = rotatedDice;
+    }
+
+    /**
+     * Enables luck-adjusted scoring. Luck is measured with evaluators from the supplier, one per task.
+     *
+     * @param luckEvaluator creates the evaluators measuring luck, or null to score trials by their result only.
+     */
+    public void setLuckAdjustment(Supplier<Evaluator> luckEvaluator) {
+        this.luckEvaluator = luckEvaluator;
+    }
+
+    /**
+     * Sets the cache the trials share for legal plays. A cache holding {@value PlayCache#DEFAULT_CAPACITY}
+     * entries is used by default.
+     *
+     * @param playCache the cache, or null to generate every play list.
+     */
+    public void setPlayCache(PlayCache playCache) {
+        this.playCache = playCache;
+    }
+
+    /**
+     * Rolls out a position. The side on roll rolls first; no opening roll is played.
+     *
+     * @param board  the position; it is not changed.
+     * @param side   the side on roll.
+     * @param cube   the cube at the start of every trial; it is not changed.
+     * @param trials the number of games to play.
+     * @param seed   the seed of the dice.
+     * @return the aggregated results from the point of view of the side on roll.
+     */
+    public RolloutResult rollout(Board board, int side, DoublingCube cube, int trials, long seed) {
+        if (trials <= 0) {
+            throw new IllegalArgumentException("Number of trials must be positive: " + trials);
+        }
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+        int[][] rotations = rotatedDice ? shuffledRolls(random) : null;
+        Rollout rollout = new Rollout(board, side, cube, rotations, luckEvaluator);
+        RolloutResult result = pool.invoke(new TrialTask(rollout, 0, trials, random));
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Plays one trial to the end and records it, or records it as truncated if it reaches {@link #TURN_LIMIT}.
+     *
+     * @param rollout the rollout the trial belongs to.
+     * @param engine  a game set up at the rolled-out position.
+     * @param trial   the index of the trial within the rollout.
+     * @param dice    the dice of the task.
+     * @param search  the search measuring luck, or null without luck adjustment.
+     * @param result  the result receiving the trial.
+     */
+    private void playTrial(Rollout rollout, GameEngine engine, long trial, DiceSource dice,
+                           NPlySearch search, RolloutResult result) {
+        int startCube = rollout.cube.getValue();
+        float[] output = new float[Evaluator.OUTPUTS];
+        double luck = 0;
+        for (int turn = 0; !engine.isGameOver(); turn++) {
+            if (turn == TURN_LIMIT) {
+                result.addTruncatedTrial();
+                return;
+            }
+            int mover = engine.getSideToMove();
+            if (engine.canDouble(mover) && policies[mover].shouldDouble(engine)) {
+                engine.offerDouble();
+                if (policies[1 - mover].shouldAccept(engine)) {
+                    engine.acceptDouble();
+                } else {
+                    engine.refuseDouble();
+                    break;
+                }
+            }
+
+            int die1;
+            int die2;
+            if (rollout.rotations != null && turn < ROTATED_TURNS) {
+                int roll = rotatedRoll(rollout.rotations[turn], trial, turn);
+                die1 = roll / DIE_FACES + 1;
+                die2 = roll % DIE_FACES + 1;
+            } else {
+                die1 = dice.roll();
+                die2 = dice.roll();
+            }
+            if (search != null) {
+                Board board = engine.getBoard();
+                float rolled = search.findBestPlay(board, mover, die1, die2, 0).getEquity();
+                float expected = search.evaluate(board, mover, 1, output);
+                double stake = (double) engine.getDoublingManager().getDoublingCube().getValue() / startCube;
+                luck += (mover == rollout.side ? 1 : -1) * (rolled - expected) * stake;
+            }
+
+            List<Play> plays = engine.getLegalPlays(die1, die2);
+            Play play = plays.size() == 1 ? plays.get(0) : policies[mover].choosePlay(engine, plays);
+            engine.play(play);
+        }
+
+        boolean won = engine.getWinner() == rollout.side;
+        double points = (double) engine.getPoints() / startCube;
+        result.addTrial(won ? points : -points, luck, won, engine.getResultMultiplier());
+    }
+
+    /**
+     * Picks the stratified roll of a trial for one of the rotated turns. Turn 0 cycles through all rolls every 36
+     * trials, turn 1 every 36 * 36 trials, and so on, so together the rotated turns cover every combination.
+     *
+     * @param rotation the order in which the 36 rolls are used for this turn.
+     * @param trial    the index of the trial within the rollout.
+     * @param turn     the turn, below {@link #ROTATED_TURNS}.
+     * @return the roll, as {@code (die1 - 1) * 6 + (die2 - 1)}.
+     */
+    static int rotatedRoll(int[] rotation, long trial, int turn) {
+        long block = 1;
+        for (int i = 0; i < turn; i++) {
+            block *= ROLLS;
+        }
+        return rotation[(int) ((trial / block) % ROLLS)];
+    }
+
+    /**
+     * Creates a random order of the 36 rolls for each rotated turn, so different seeds pair the strata
+     * differently.
+     *
+     * @param random the generator to shuffle with.
+     * @return one permutation of the 36 rolls per rotated turn.
+     */
+    private static int[][] shuffledRolls(SplittableRandom random) {
+        int[][] rotations = new int[ROTATED_TURNS][ROLLS];
+        for (int[] rotation : rotations) {
+            for (int i = 0; i < ROLLS; i++) {
+                rotation[i] = i;
+            }
+            for (int i = ROLLS - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = rotation[i];
+                rotation[i] = rotation[j];
+                rotation[j] = swap;
+            }
+        }
+        return rotations;
+    }
+
+    /**
+     * The read-only setup shared by all tasks of one rollout.
+     */
+    private static final class Rollout {
+        private final Board board;
+        private final int side;
+        private final DoublingCube cube;
+        private final int[][] rotations;
+        private final Supplier<Evaluator> luckEvaluator;
+
+        /**
+         * Creates the setup of a rollout.
+         *
+         * @param board         the position to roll out.
+         * @param side          the side on roll.
+         * @param cube          the starting cube.
+         * @param rotations     the roll orders of the rotated turns, or null for random dice throughout.
+         * @param luckEvaluator the supplier of luck evaluators, or null without luck adjustment.
+         */
+        Rollout(Board board, int side, DoublingCube cube, int[][] rotations, Supplier<Evaluator> luckEvaluator) {
+            this.board = board;
+            this.side = side;
+            this.cube = cube;
+            this.rotations = rotations;
+            this.luckEvaluator = luckEvaluator;
+        }
+    }
+
+    /**
+     * Plays a range of trials, splitting it in half until it is small enough to play directly.
+     */
+    private final class TrialTask extends RecursiveTask<RolloutResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Rollout rollout;
+        private final long firstTrial;
+        private final int trials;
+        private final transient SplittableRandom random;
+
+        /**
+         * Creates a task.
+         *
+         * @param rollout    the rollout the trials belong to.
+         * @param firstTrial the index of the first trial of this task.
+         * @param trials     the number of trials in this task.
+         * @param random     the random generator of this task.
+         */
+        TrialTask(Rollout rollout, long firstTrial, int trials, SplittableRandom random) {
+            this.rollout = rollout;
+            this.firstTrial = firstTrial;
+            this.trials = trials;
+            this.random = random;
+        }
+
+        @Override
+        protected RolloutResult compute() {
+            if (trials > trialsPerTask) {
+                int half = trials / 2;
+                TrialTask left = new TrialTask(rollout, firstTrial, half, random.split());
+                TrialTask right = new TrialTask(rollout, firstTrial + half, trials - half, random);
+                left.fork();
+                RolloutResult result = right.compute();
+                result.merge(left.join());
+                return result;
+            }
+
+            RolloutResult result = new RolloutResult();
+            Board work = new Board(rollout.board);
+            DoublingManager doublingManager = new DoublingManager();
+            DiceSource dice = new BufferedDiceSource(random);
+            NPlySearch search = rollout.luckEvaluator == null ? null : new NPlySearch(rollout.luckEvaluator.get());
+            for (int i = 0; i < trials; i++) {
+                work.copyFrom(rollout.board);
+                doublingManager.getDoublingCube().copyFrom(rollout.cube);
+                doublingManager.setPlayerToRespond(null);
+                GameEngine engine = new GameEngine(work, doublingManager);
+                engine.setPlayCache(playCache);
+                engine.setSideToMove(rollout.side);
+                playTrial(rollout, engine, firstTrial + i, dice, search, result);
+            }
+            return result;
+        }
+    }
+}
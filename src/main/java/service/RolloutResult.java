@@ -0,0 +1,179 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package service;
+
+import model.Evaluator;
+
+import static util.CommonConstants.*;
+
+/**
+ * Aggregated outcome of a rollout, from the point of view of the side that was on roll.
+ * <p>
+ * Each trial contributes the points won or lost, in units of the starting cube value, and how the game ended. With
+ * luck adjustment, a trial is scored by its points minus the luck of the side on roll, and the unadjusted mean is
+ * kept alongside. Trials abandoned at {@link RolloutEngine#TURN_LIMIT} are only counted, not scored. Results of
+ * separate batches of trials are combined with {@link #merge(RolloutResult)}.
+ */
+public class RolloutResult {
+    private long trials;
+    private long truncatedTrials;
+    private double sum;
+    private double unadjustedSum;
+    private double sumOfSquares;
+    private final long[] wins = new long[BACKGAMMON + 1];
+    private final long[] losses = new long[BACKGAMMON + 1];
+    private long elapsedNanos;
+
+    /**
+     * Records one finished trial.
+     *
+     * @param points     the points won, negative if lost, in units of the starting cube value.
+     * @param luck       the luck of the side on roll over the trial in the same units; 0 without adjustment.
+     * @param won        whether the side on roll won the game.
+     * @param multiplier the result multiplier ({@code SINGLE}, {@code GAMMON} or {@code BACKGAMMON}).
+     */
+    void addTrial(double points, double luck, boolean won, int multiplier) {
+        double score = points - luck;
+        trials++;
+        sum += score;
+        unadjustedSum += points;
+        sumOfSquares += score * score;
+        (won ? wins : losses)[multiplier]++;
+    }
+
+    /**
+     * Records a trial that was abandoned before the game ended.
+     */
+    void addTruncatedTrial() {
+        truncatedTrials++;
+    }
+
+    /**
+     * Adds the trials of another result to this one.
+     *
+     * @param other the result to merge.
+     */
+    void merge(RolloutResult other) {
+        trials += other.trials;
+        truncatedTrials += other.truncatedTrials;
+        sum += other.sum;
+        unadjustedSum += other.unadjustedSum;
+        sumOfSquares += other.sumOfSquares;
+        for (int multiplier = SINGLE; multiplier <= BACKGAMMON; multiplier++) {
+            wins[multiplier] += other.wins[multiplier];
+            losses[multiplier] += other.losses[multiplier];
+        }
+    }
+
+    /**
+     * Records how long the rollout took.
+     *
+     * @param elapsedNanos the wall-clock time in nanoseconds.
+     */
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of trials played to the end.
+     *
+     * @return the trial count.
+     */
+    public long getTrials() {
+        return trials;
+    }
+
+    /**
+     * Returns the number of trials abandoned at the turn limit.
+     *
+     * @return the truncated trial count.
+     */
+    public long getTruncatedTrials() {
+        return truncatedTrials;
+    }
+
+    /**
+     * Returns the mean score per trial, in units of the starting cube value. With luck adjustment this is the
+     * variance-reduced estimate.
+     *
+     * @return the estimated equity.
+     */
+    public double getEquity() {
+        return trials == 0 ? 0 : sum / trials;
+    }
+
+    /**
+     * Returns the mean of the actual game results, ignoring any luck adjustment.
+     *
+     * @return the unadjusted equity.
+     */
+    public double getUnadjustedEquity() {
+        return trials == 0 ? 0 : unadjustedSum / trials;
+    }
+
+    /**
+     * Returns the standard error of {@link #getEquity()}.
+     *
+     * @return the standard error, or 0 with fewer than two trials.
+     */
+    public double getStandardError() {
+        if (trials < 2) {
+            return 0;
+        }
+        double mean = sum / trials;
+        double variance = Math.max(0, (sumOfSquares - trials * mean * mean) / (trials - 1));
+        return Math.sqrt(variance / trials);
+    }
+
+    /**
+     * Returns the observed game outcomes as cubeless probabilities, in the layout of {@link Evaluator}.
+     *
+     * @return the {@link Evaluator#OUTPUTS} probabilities.
+     */
+    public float[] getOutput() {
+        float[] output = new float[Evaluator.OUTPUTS];
+        if (trials == 0) {
+            return output;
+        }
+        output[Evaluator.WIN] = (float) (wins[SINGLE] + wins[GAMMON] + wins[BACKGAMMON]) / trials;
+        output[Evaluator.WIN_GAMMON] = (float) (wins[GAMMON] + wins[BACKGAMMON]) / trials;
+        output[Evaluator.WIN_BACKGAMMON] = (float) wins[BACKGAMMON] / trials;
+        output[Evaluator.LOSE_GAMMON] = (float) (losses[GAMMON] + losses[BACKGAMMON]) / trials;
+        output[Evaluator.LOSE_BACKGAMMON] = (float) losses[BACKGAMMON] / trials;
+        return output;
+    }
+
+    /**
+     * Returns how fast trials were played.
+     *
+     * @return the trials per second, or 0 if no time was recorded.
+     */
+    public double getTrialsPerSecond() {
+        return elapsedNanos == 0 ? 0 : (trials + truncatedTrials) * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Formats the result for display.
+     *
+     * @return the equity with its standard error and the number of trials.
+     */
+    @Override
+    public String toString() {
+        return String.format("Equity %+.4f +/- %.4f over %d trials (%.0f trials/s)",
+                getEquity(), getStandardError(), trials, getTrialsPerSecond());
+    }
+}
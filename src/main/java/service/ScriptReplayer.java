@@ -0,0 +1,278 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+
+package service;
+
+import model.Dice;
+import model.Move;
+import model.MoveList;
+import model.Player;
+import util.Command;
+import util.DiceCommand;
+import util.TestCommand;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static util.CommonConstants.*;
+
+/**
+ * Replays command scripts, as run by the TEST command, against the game rules without a console.
+ * <p>
+ * A script is played as {@link GameService} plays it: DICE sets the next roll, ROLL rolls and then takes one option
+ * letter per checker move from the following lines, choosing from the moves listed in the same order, and TEST
+ * plays a nested script. Nothing is printed; the game as the script leaves it is returned as a
+ * {@link ReplayResult}. PIP only displays and is skipped, and other commands, which a script cannot run, count as
+ * invalid lines, as does an invalid option letter.
+ * <p>
+ * Where the console would fall back to keyboard input, the replay stops instead: a roll that runs out of lines ends
+ * the turn with the moves played so far. The replay also stops once the game is over. Nested scripts are parsed
+ * the first time they are used and kept for later replays. A replayer is not thread-safe.
+ */
+public class ScriptReplayer {
+    private final Dice dice;
+    private final Map<String, CommandScript> nestedScripts = new HashMap<>();
+
+    /**
+     * Creates a replayer that rolls randomly seeded dice when a script rolls without setting the dice first.
+     */
+    public ScriptReplayer() {
+        this(new Dice());
+    }
+
+    /**
+     * Creates a replayer.
+     *
+     * @param dice the dice rolled when a script rolls without setting the dice first.
+     */
+    public ScriptReplayer(Dice dice) {
+        this.dice = dice;
+    }
+
+    /**
+     * Replays a script on a new game.
+     *
+     * @param script       the script.
+     * @param startingSide the side that moves first.
+     * @return the final state of the game.
+     */
+    public ReplayResult replay(CommandScript script, int startingSide) {
+        Replay replay = new Replay(startingSide);
+        replay.run(script);
+        return new ReplayResult(replay.engine, replay.lines, replay.moves, replay.invalid);
+    }
+
+    /**
+     * Returns a nested script, reading it the first time it is used.
+     *
+     * @param filename the file name given to the TEST command.
+     * @return the parsed script.
+     * @throws IOException if the file cannot be read.
+     * @throws InvalidPathException if the file name is not a valid path.
+     */
+    private CommandScript getNestedScript(String filename) throws IOException {
+        CommandScript script = nestedScripts.get(filename);
+        if (script == null) {
+            script = CommandScript.read(Path.of(filename));
+            nestedScripts.put(filename, script);
+        }
+        return script;
+    }
+
+    /**
+     * Replays script files and prints the final state of each as one tab separated line, starting with the file
+     * name. A directory stands for all the files in it, in name order. The first player moves first.
+     *
+     * @param args the script files or directories.
+     * @throws IOException if a script cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: java service.ScriptReplayer <script or directory>...");
+            return;
+        }
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            Path path = Path.of(arg);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> entries = Files.list(path)) {
+                    entries.filter(Files::isRegularFile).sorted().forEach(files::add);
+                }
+            } else {
+                files.add(path);
+            }
+        }
+
+        ScriptReplayer replayer = new ScriptReplayer();
+        long start = System.nanoTime();
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out));
+        for (Path file : files) {
+            ReplayResult result = replayer.replay(CommandScript.read(file), PLAYER_1_SIDE);
+            out.write(file + "\t" + result);
+            out.newLine();
+        }
+        out.flush();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.printf("Replayed %d scripts in %.1f s.%n", files.size(), seconds);
+    }
+
+    /**
+     * The state of one replay.
+     */
+    private final class Replay {
+        private final GameEngine engine = new GameEngine(new Player("Player 1"), new Player("Player 2"));
+        private final MoveList moveOptions = new MoveList();
+        private final Set<String> activeScripts = new HashSet<>();
+        private boolean isDiceSet;
+        private int presetRoll1;
+        private int presetRoll2;
+        private int lines;
+        private int moves;
+        private int invalid;
+
+        /**
+         * Creates a replay of a new game.
+         *
+         * @param startingSide the side that moves first.
+         */
+        private Replay(int startingSide) {
+            engine.setSideToMove(startingSide);
+        }
+
+        /**
+         * Plays the lines of a script until it ends or the game is over. A script that is already being played,
+         * through a TEST command that refers back to it, is not played again.
+         *
+         * @param script the script.
+         */
+        private void run(CommandScript script) {
+            if (!activeScripts.add(script.getName())) {
+                invalid++;
+                return;
+            }
+            int index = 0;
+            while (index < script.size() && !engine.isGameOver()) {
+                Command command = script.getCommand(index++);
+                lines++;
+                if (command == null) {
+                    invalid++;
+                } else if (command instanceof TestCommand testCommand) {
+                    runNested(testCommand.getFilename());
+                } else if (command instanceof DiceCommand diceCommand) {
+                    setDice(diceCommand.getRoll1(), diceCommand.getRoll2());
+                } else {
+                    switch (command.getType()) {
+                        case ROLL -> index = playRoll(script, index);
+                        case PIP -> { }
+                        default -> invalid++;
+                    }
+                }
+            }
+            activeScripts.remove(script.getName());
+        }
+
+        /**
+         * Plays a nested script; a file that cannot be read counts as an invalid line.
+         *
+         * @param filename the file name given to the TEST command.
+         */
+        private void runNested(String filename) {
+            CommandScript nested;
+            try {
+                nested = getNestedScript(filename);
+            } catch (IOException | InvalidPathException e) {
+                invalid++;
+                return;
+            }
+            run(nested);
+        }
+
+        /**
+         * Presets the next roll; values that are not die faces count as an invalid line.
+         *
+         * @param roll1 the first die.
+         * @param roll2 the second die.
+         */
+        private void setDice(int roll1, int roll2) {
+            if (roll1 < MINIMUM_DICE_VALUE || roll1 > MAXIMUM_DICE_VALUE
+                    || roll2 < MINIMUM_DICE_VALUE || roll2 > MAXIMUM_DICE_VALUE) {
+                invalid++;
+                return;
+            }
+            isDiceSet = true;
+            presetRoll1 = roll1;
+            presetRoll2 = roll2;
+        }
+
+        /**
+         * Rolls, plays one checker move per option letter read from the script and passes the turn.
+         *
+         * @param script the script.
+         * @param index  the index of the line after the ROLL.
+         * @return the index of the first line not used.
+         */
+        private int playRoll(CommandScript script, int index) {
+            int roll1;
+            int roll2;
+            if (isDiceSet) {
+                roll1 = presetRoll1;
+                roll2 = presetRoll2;
+                isDiceSet = false;
+            } else {
+                roll1 = dice.roll();
+                roll2 = dice.roll();
+            }
+            int[] rolls = roll1 == roll2 ? new int[]{roll1, roll1, roll1, roll1} : new int[]{roll1, roll2};
+
+            for (int remaining = rolls.length; remaining > 0 && index < script.size(); ) {
+                engine.generateMoves(rolls, moveOptions);
+                if (moveOptions.isEmpty()) {
+                    break;
+                }
+                int option = script.getOption(index++) - 'A';
+                lines++;
+                if (option < 0 || option >= moveOptions.size()) {
+                    invalid++;
+                    continue;
+                }
+                int move = moveOptions.get(option);
+                engine.applyMove(move);
+                moves++;
+                remaining--;
+                for (int i = 0; i < rolls.length; i++) {
+                    if (rolls[i] == Move.die(move)) {
+                        rolls[i] = 0;
+                        break;
+                    }
+                }
+            }
+            engine.endTurn();
+            return index;
+        }
+    }
+}
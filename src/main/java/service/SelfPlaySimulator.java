@@ -0,0 +1,218 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package service;
+
+import model.Dice;
+import model.Play;
+import model.PlayCache;
+import model.Player;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static util.CommonConstants.*;
+
+/**
+ * Plays complete matches between two move policies without any console I/O.
+ * <p>
+ * Matches are independent, so each one runs as its own fork-join task and the run uses every core. A match
+ * follows the same rules as {@link MatchManager}: it lasts {@code matchLength} games, and the first policy
+ * always plays Player 1.
+ */
+public class SelfPlaySimulator {
+    private static final String PLAYER_1_NAME = "Player 1";
+    private static final String PLAYER_2_NAME = "Player 2";
+
+    private final MovePolicy[] policies;
+    private final int matchLength;
+    private PlayCache playCache = new PlayCache();
+
+    /**
+     * Creates a simulator for two policies.
+     *
+     * @param policy1     the policy playing Player 1.
+     * @param policy2     the policy playing Player 2.
+     * @param matchLength the number of games in each match.
+     */
+    public SelfPlaySimulator(MovePolicy policy1, MovePolicy policy2, int matchLength) {
+        if (matchLength <= 0) {
+            throw new IllegalArgumentException(POSITIVE_MATCH_LENGTH_MESSAGE);
+        }
+        this.policies = new MovePolicy[]{policy1, policy2};
+        this.matchLength = matchLength;
+    }
+
+    /**
+     * Sets the cache the games of this simulator share for legal plays. A cache holding
+     * {@value PlayCache#DEFAULT_CAPACITY} entries is used by default.
+     *
+     * @param playCache the cache, or null to generate every play list.
+     */
+    public void setPlayCache(PlayCache playCache) {
+        this.playCache = playCache;
+    }
+
+    /**
+     * Returns the cache the games of this simulator share for legal plays.
+     *
+     * @return the cache, or null if plays are not cached.
+     */
+    public PlayCache getPlayCache() {
+        return playCache;
+    }
+
+    /**
+     * Plays the given number of matches concurrently and summarises them.
+     *
+     * @param matches the number of matches to play.
+     * @return the aggregated results.
+     */
+    public SimulationReport run(int matches) {
+        long start = System.nanoTime();
+        List<MatchResult> results = IntStream.range(0, matches)
+                .parallel()
+                .mapToObj(i -> playMatch())
+                .toList();
+        long elapsed = System.nanoTime() - start;
+
+        SimulationReport report = new SimulationReport(elapsed);
+        for (MatchResult result : results) {
+            report.add(result);
+        }
+        return report;
+    }
+
+    /**
+     * Plays one complete match.
+     *
+     * @return the result of the match.
+     */
+    MatchResult playMatch() {
+        MatchManager matchManager = new MatchManager(PLAYER_1_NAME, PLAYER_2_NAME, matchLength);
+        MatchResult result = new MatchResult();
+        Dice dice = new Dice();
+
+        while (!matchManager.isMatchOver()) {
+            GameEngine engine = new GameEngine(matchManager.getPlayer1(), matchManager.getPlayer2());
+            engine.setPlayCache(playCache);
+            engine.setMatchManager(matchManager);
+            playGame(engine, dice);
+
+            int winner = engine.getWinner();
+            Player winningPlayer = engine.getBoard().getPlayer(winner);
+            matchManager.incrementScore(winningPlayer, engine.getPoints());
+            result.addGame(winner, engine.getResultMultiplier());
+            matchManager.incrementGamesPlayed();
+        }
+
+        result.setScores(matchManager.getPlayer1Score(), matchManager.getPlayer2Score());
+        return result;
+    }
+
+    /**
+     * Plays a single game until it is decided.
+     *
+     * @param engine the new game.
+     * @param dice   the dice to roll.
+     */
+    private void playGame(GameEngine engine, Dice dice) {
+        int roll1;
+        int roll2;
+        do {
+            roll1 = dice.roll();
+            roll2 = dice.roll();
+        } while (roll1 == roll2);
+        engine.setSideToMove(roll1 > roll2 ? PLAYER_1_SIDE : PLAYER_2_SIDE);
+
+        while (!engine.isGameOver()) {
+            int side = engine.getSideToMove();
+            if (engine.canDouble(side) && policies[side].shouldDouble(engine)) {
+                engine.offerDouble();
+                if (policies[1 - side].shouldAccept(engine)) {
+                    engine.acceptDouble();
+                } else {
+                    engine.refuseDouble();
+                    return;
+                }
+            }
+
+            List<Play> plays = engine.getLegalPlays(dice.roll(), dice.roll());
+            Play play = plays.size() == 1 ? plays.get(0) : policies[side].choosePlay(engine, plays);
+            engine.play(play);
+        }
+    }
+
+    /**
+     * Outcome of one match: games won per side, how they were won, and the final score.
+     */
+    static final class MatchResult {
+        private final int[] gamesWon = new int[2];
+        private final int[] resultCounts = new int[BACKGAMMON + 1];
+        private final int[] scores = new int[2];
+
+        /**
+         * Records a decided game.
+         *
+         * @param winner     the winning side.
+         * @param multiplier the result multiplier ({@code SINGLE}, {@code GAMMON} or {@code BACKGAMMON}).
+         */
+        void addGame(int winner, int multiplier) {
+            gamesWon[winner]++;
+            resultCounts[multiplier]++;
+        }
+
+        /**
+         * Records the final score.
+         *
+         * @param player1Score the score of Player 1.
+         * @param player2Score the score of Player 2.
+         */
+        void setScores(int player1Score, int player2Score) {
+            scores[PLAYER_1_SIDE] = player1Score;
+            scores[PLAYER_2_SIDE] = player2Score;
+        }
+
+        /**
+         * Returns the number of games a side won.
+         *
+         * @param side the side index.
+         * @return the games won.
+         */
+        int getGamesWon(int side) {
+            return gamesWon[side];
+        }
+
+        /**
+         * Returns the number of games won with the given result.
+         *
+         * @param multiplier the result multiplier.
+         * @return the number of such games.
+         */
+        int getResultCount(int multiplier) {
+            return resultCounts[multiplier];
+        }
+
+        /**
+         * Returns the final score of a side.
+         *
+         * @param side the side index.
+         * @return the score.
+         */
+        int getScore(int side) {
+            return scores[side];
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package service;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static util.CommonConstants.*;
+
+/**
+ * Aggregated results of a {@link SelfPlaySimulator} run: throughput, win rates per policy, how games were won and
+ * the distribution of final match scores.
+ */
+public class SimulationReport {
+    private final long elapsedNanos;
+    private final int[] gamesWon = new int[2];
+    private final int[] matchesWon = new int[2];
+    private final int[] resultCounts = new int[BACKGAMMON + 1];
+    private final Map<String, Integer> scoreDistribution = new TreeMap<>();
+    private int matches;
+    private int games;
+
+    /**
+     * Creates an empty report.
+     *
+     * @param elapsedNanos the wall-clock time the run took.
+     */
+    SimulationReport(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Adds the result of one match.
+     *
+     * @param result the match result.
+     */
+    void add(SelfPlaySimulator.MatchResult result) {
+        matches++;
+        for (int side = PLAYER_1_SIDE; side <= PLAYER_2_SIDE; side++) {
+            gamesWon[side] += result.getGamesWon(side);
+            games += result.getGamesWon(side);
+        }
+        for (int multiplier = SINGLE; multiplier <= BACKGAMMON; multiplier++) {
+            resultCounts[multiplier] += result.getResultCount(multiplier);
+        }
+
+        int score1 = result.getScore(PLAYER_1_SIDE);
+        int score2 = result.getScore(PLAYER_2_SIDE);
+        if (score1 != score2) {
+            matchesWon[score1 > score2 ? PLAYER_1_SIDE : PLAYER_2_SIDE]++;
+        }
+        scoreDistribution.merge(score1 + "-" + score2, 1, Integer::sum);
+    }
+
+    /**
+     * Returns the number of matches played.
+     *
+     * @return the number of matches.
+     */
+    public int getMatches() {
+        return matches;
+    }
+
+    /**
+     * Returns the number of games played.
+     *
+     * @return the number of games.
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the throughput of the run.
+     *
+     * @return games completed per second of wall-clock time.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns the share of games won by the policy playing the given side.
+     *
+     * @param side the side index.
+     * @return the game win rate, between 0 and 1.
+     */
+    public double getGameWinRate(int side) {
+        return games == 0 ? 0 : (double) gamesWon[side] / games;
+    }
+
+    /**
+     * Returns the share of matches won by the policy playing the given side; drawn matches count for neither.
+     *
+     * @param side the side index.
+     * @return the match win rate, between 0 and 1.
+     */
+    public double getMatchWinRate(int side) {
+        return matches == 0 ? 0 : (double) matchesWon[side] / matches;
+    }
+
+    /**
+     * Returns the share of games won as a gammon (not counting backgammons).
+     *
+     * @return the gammon rate, between 0 and 1.
+     */
+    public double getGammonRate() {
+        return games == 0 ? 0 : (double) resultCounts[GAMMON] / games;
+    }
+
+    /**
+     * Returns the share of games won as a backgammon.
+     *
+     * @return the backgammon rate, between 0 and 1.
+     */
+    public double getBackgammonRate() {
+        return games == 0 ? 0 : (double) resultCounts[BACKGAMMON] / games;
+    }
+
+    /**
+     * Returns how often each final score occurred, keyed as {@code "<player 1 score>-<player 2 score>"}.
+     *
+     * @return the score distribution, sorted by key.
+     */
+    public Map<String, Integer> getScoreDistribution() {
+        return Collections.unmodifiableMap(scoreDistribution);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d matches, %d games in %.2f s (%.0f games/s)%n"
+                        + "Player 1 wins %.1f%% of games, %.1f%% of matches%n"
+                        + "Player 2 wins %.1f%% of games, %.1f%% of matches%n"
+                        + "Gammons %.1f%%, backgammons %.1f%%",
+                matches, games, elapsedNanos / 1e9, getGamesPerSecond(),
+                100 * getGameWinRate(PLAYER_1_SIDE), 100 * getMatchWinRate(PLAYER_1_SIDE),
+                100 * getGameWinRate(PLAYER_2_SIDE), 100 * getMatchWinRate(PLAYER_2_SIDE),
+                100 * getGammonRate(), 100 * getBackgammonRate());
+    }
+}
@@ -39,6 +39,10 @@ public class CommonConstants {
     public static final int PLAYER_2_MOVE_DIRECTION = -1;
     public static final int PLAYER_1_BEAR_OFF_POSITION = 25;
     public static final int PLAYER_2_BEAR_OFF_POSITION = 0;
+    public static final int NUMBER_OF_POINTS = 24;
+    public static final int CHECKERS_PER_PLAYER = 15;
+    public static final int PLAYER_1_SIDE = 0;
+    public static final int PLAYER_2_SIDE = 1;
     public static final String NO_VALID_ROLLS_MESSAGE = "No valid rolls available for bearing off";
     public static final String BAR = "BAR";
     public static final String OFF = "OFF";
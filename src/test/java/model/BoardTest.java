@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
 
 class BoardTest {
     private Board board;
@@ -151,4 +152,172 @@ class BoardTest {
         assertFalse(board.getPositions().containsKey(24));
         assertEquals(1, board.getBearOffForPlayer(player1).size());
     }
+
+    @Test
+    void testCheckerCountsForStartingPosition() {
+        int side1 = board.sideOf(player1);
+        int side2 = board.sideOf(player2);
+
+        assertEquals(2, board.getCheckerCount(side1, 1));
+        assertEquals(5, board.getCheckerCount(side2, 6));
+        assertEquals(0, board.getCheckerCount(side1, 6));
+        assertEquals(0, board.getBarCount(side1));
+        assertEquals(0, board.getBearOffCount(side2));
+    }
+
+    @Test
+    void testMakeMoveHitSendsBlotToBar() {
+        board.getPositions().put(3, new ArrayList<>(List.of(new Checker("Black", player2))));
+
+        board.makeMove(player1, 1, 3);
+
+        assertEquals(1, board.getBarForPlayer(player2).size());
+        assertEquals(1, board.getPositions().get(3).size());
+        assertEquals(player1, board.getPositions().get(3).getFirst().getOwner());
+        assertEquals(1, board.getPositions().get(1).size());
+    }
+
+    @Test
+    void testApplyAndUndoHit() {
+        board.getPositions().put(3, new ArrayList<>(List.of(new Checker("Black", player2))));
+        int side = board.sideOf(player1);
+
+        int token = board.apply(Move.of(side, 1, 3));
+
+        assertTrue(Move.isHit(token));
+        assertEquals(1, board.getBarCount(board.sideOf(player2)));
+
+        board.undo(token);
+
+        assertEquals(0, board.getBarCount(board.sideOf(player2)));
+        assertEquals(1, board.getCheckerCount(board.sideOf(player2), 3));
+        assertEquals(2, board.getCheckerCount(side, 1));
+    }
+
+    @Test
+    void testApplyAndUndoBarEntryAndBearOff() {
+        int side = board.sideOf(player1);
+        board.getBarForPlayer(player1).add(new Checker("White", player1));
+
+        int entry = board.apply(Move.of(side, Move.barSlot(side), 2));
+        int bearOff = board.apply(Move.of(side, 19, Move.offSlot(side)));
+
+        assertEquals(0, board.getBarCount(side));
+        assertEquals(1, board.getBearOffCount(side));
+
+        board.undo(bearOff);
+        board.undo(entry);
+
+        assertEquals(1, board.getBarCount(side));
+        assertEquals(0, board.getBearOffCount(side));
+        assertEquals(5, board.getCheckerCount(side, 19));
+        assertEquals(0, board.getCheckerCount(side, 2));
+    }
+
+    @Test
+    void testGenerateMovesFromBarOnly() {
+        int side = board.sideOf(player1);
+        board.getBarForPlayer(player1).add(new Checker("White", player1));
+        MoveList moves = new MoveList();
+
+        board.generateMoves(side, new int[]{6, 3}, moves);
+
+        assertEquals(1, moves.size());
+        assertEquals("BAR -> 3", Move.format(moves.get(0)));
+        assertEquals(3, Move.die(moves.get(0)));
+    }
+
+    @Test
+    void testHashRestoredByUndo() {
+        int side = board.sideOf(player2);
+        long initial = board.hash();
+
+        int token = board.apply(Move.of(side, 6, 2));
+
+        assertNotEquals(initial, board.hash());
+
+        board.undo(token);
+
+        assertEquals(initial, board.hash());
+    }
+
+    @Test
+    void testHashDependsOnlyOnPosition() {
+        Board other = new Board(player1, player2);
+        int side = board.sideOf(player1);
+
+        board.apply(Move.of(side, 1, 4));
+        board.apply(Move.of(side, 4, 6));
+        other.apply(Move.of(side, 1, 3));
+        other.apply(Move.of(side, 3, 6));
+
+        assertEquals(other.hash(), board.hash());
+    }
+
+    @Test
+    void testHashTracksHitsAndViewChanges() {
+        Board other = new Board(player1, player2);
+        int side = board.sideOf(player1);
+        board.getPositions().put(3, new ArrayList<>(List.of(new Checker("Black", player2))));
+        other.getPositions().put(3, new ArrayList<>(List.of(new Checker("Black", player2))));
+        long beforeHit = board.hash();
+
+        int token = board.apply(Move.of(side, 1, 3));
+
+        assertNotEquals(beforeHit, board.hash());
+
+        board.undo(token);
+
+        assertEquals(other.hash(), board.hash());
+    }
+
+    @Test
+    void testPipCountTracksMovesAndHits() {
+        int side = board.sideOf(player1);
+        int opponent = board.sideOf(player2);
+        board.getPositions().put(3, new ArrayList<>(List.of(new Checker("Black", player2))));
+        int opponentPips = board.getPipCount(opponent);
+
+        assertEquals(167, board.getPipCount(side));
+
+        int token = board.apply(Move.of(side, 1, 3));
+
+        assertEquals(165, board.getPipCount(side));
+        assertEquals(opponentPips - 3 + 25, board.getPipCount(opponent));
+
+        board.undo(token);
+
+        assertEquals(167, board.getPipCount(side));
+        assertEquals(opponentPips, board.getPipCount(opponent));
+    }
+
+    @Test
+    void testBlockedPointsOfStartingPosition() {
+        int side = board.sideOf(player1);
+        int blocked = (1 << 6) | (1 << 8) | (1 << 13) | (1 << 24);
+
+        assertEquals(blocked, board.getBlockedPoints(side));
+        assertEquals(Board.ILLEGAL_TARGET, board.getMoveTarget(side, 1, 5));
+        assertEquals(4, board.getMoveTarget(side, 1, 3));
+    }
+
+    @Test
+    void testBearOffTargetsFollowRearmostChecker() {
+        int side = board.sideOf(player1);
+        int[] slots = new int[NUMBER_OF_POINTS + 2];
+        slots[20] = 2;
+        slots[23] = 1;
+        slots[1] = -15;
+        board.setPosition(slots, 12, 0);
+
+        assertTrue(board.canBearOff(side));
+        assertEquals(PLAYER_1_BEAR_OFF_POSITION, board.getMoveTarget(side, 20, 5));
+        assertEquals(PLAYER_1_BEAR_OFF_POSITION, board.getMoveTarget(side, 20, 6));
+        assertEquals(Board.ILLEGAL_TARGET, board.getMoveTarget(side, 23, 6));
+
+        board.apply(Move.of(side, 20, PLAYER_1_BEAR_OFF_POSITION, 6));
+        board.apply(Move.of(side, 20, PLAYER_1_BEAR_OFF_POSITION, 6));
+
+        assertEquals(PLAYER_1_BEAR_OFF_POSITION, board.getMoveTarget(side, 23, 6));
+    }
 }
@@ -16,6 +16,12 @@
 package model;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,4 +57,54 @@ class DiceTest {
             assertTrue(result, "All numbers between 1 and 6 should appear at least once in 1000 rolls.");
         }
     }
+
+    @Test
+    void testSeededSourcesAreReproducible() {
+        DiceSource first = DiceSource.seeded(11);
+        DiceSource second = DiceSource.seeded(11);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.roll(), second.roll());
+        }
+    }
+
+    @Test
+    void testBufferedSourceIsUniform() {
+        DiceSource source = new BufferedDiceSource(new SplittableRandom(5), 100);
+        int[] counts = new int[6];
+
+        for (int i = 0; i < 60_000; i++) {
+            int roll = source.roll();
+            assertTrue(roll >= 1 && roll <= 6, "Roll should always be between 1 and 6.");
+            counts[roll - 1]++;
+        }
+
+        for (int count : counts) {
+            assertEquals(10_000, count, 400);
+        }
+    }
+
+    @Test
+    void testReplayFromFile(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("rolls.txt");
+        Files.writeString(file, "# opening\n3 1\n6,4\n");
+        ReplayDiceSource source = ReplayDiceSource.read(file);
+        Dice dice = new Dice(source);
+
+        assertEquals(4, source.remaining());
+        assertEquals(3, dice.roll());
+        assertEquals(1, dice.roll());
+        assertEquals(6, dice.roll());
+        assertEquals(4, dice.roll());
+        assertThrows(IllegalStateException.class, dice::roll);
+    }
+
+    @Test
+    void testReplayRejectsInvalidDice(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("rolls.txt");
+        Files.writeString(file, "3 7");
+
+        assertThrows(IllegalArgumentException.class, () -> ReplayDiceSource.read(file));
+        assertThrows(IllegalArgumentException.class, () -> new ReplayDiceSource(0, 2));
+    }
 }
@@ -0,0 +1,111 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class EvaluationCacheTest {
+
+    @Test
+    void testHitAndMiss() {
+        EvaluationCache cache = new EvaluationCache(100);
+        float[] output = {0.6f, 0.1f, 0, 0.05f, 0};
+        float[] read = new float[Evaluator.OUTPUTS];
+
+        assertFalse(cache.get(42, read));
+        cache.put(42, output);
+
+        assertTrue(cache.get(42, read));
+        assertArrayEquals(output, read);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.getHitRate(), 1e-9);
+        assertEquals(128, cache.getCapacity());
+    }
+
+    @Test
+    void testKeysDependOnSideToMove() {
+        Board board = new Board(new Player("Alice"), new Player("Bob"));
+
+        assertNotEquals(EvaluationCache.key(board, PLAYER_1_SIDE), EvaluationCache.key(board, PLAYER_2_SIDE));
+    }
+
+    @Test
+    void testClockEvictionKeepsReferencedEntries() {
+        EvaluationCache cache = new EvaluationCache(4);
+        float[] output = new float[Evaluator.OUTPUTS];
+        for (long key = 1; key <= 4; key++) {
+            cache.put(key, output);
+        }
+        cache.get(1, output);
+
+        cache.put(5, output);
+
+        assertTrue(cache.get(1, output));
+        assertFalse(cache.get(2, output));
+        assertTrue(cache.get(5, output));
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    void testConcurrentAccessNeverMixesEntries() {
+        EvaluationCache cache = new EvaluationCache(256);
+
+        IntStream.range(0, 200_000).parallel().forEach(i -> {
+            long key = i % 1000;
+            float[] output = new float[Evaluator.OUTPUTS];
+            if (cache.get(key, output)) {
+                for (float value : output) {
+                    assertEquals(key, value);
+                }
+            } else {
+                Arrays.fill(output, key);
+                cache.put(key, output);
+            }
+        });
+
+        assertEquals(200_000, cache.getHits() + cache.getMisses());
+    }
+
+    @Test
+    void testCachingEvaluatorSkipsRepeatedEvaluations() {
+        Board board = new Board(new Player("Alice"), new Player("Bob"));
+        AtomicInteger calls = new AtomicInteger();
+        Evaluator counting = (position, side, output) -> {
+            calls.incrementAndGet();
+            new PipCountEvaluator().evaluate(position, side, output);
+        };
+        Evaluator evaluator = new CachingEvaluator(counting, new EvaluationCache(1024));
+        float[] first = new float[Evaluator.OUTPUTS];
+        float[] second = new float[Evaluator.OUTPUTS];
+
+        evaluator.evaluate(board, PLAYER_1_SIDE, first);
+        evaluator.evaluate(board, PLAYER_1_SIDE, second);
+        evaluator.evaluate(board, PLAYER_2_SIDE, second);
+
+        assertEquals(2, calls.get());
+        new PipCountEvaluator().evaluate(board, PLAYER_2_SIDE, first);
+        assertArrayEquals(first, second);
+    }
+}
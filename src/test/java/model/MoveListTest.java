@@ -0,0 +1,51 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class MoveListTest {
+
+    @Test
+    void testAddGrowsAndClearKeepsBuffer() {
+        MoveList moves = new MoveList();
+        for (int i = 0; i < 100; i++) {
+            moves.add(Move.of(PLAYER_1_SIDE, 1, 2, 1));
+        }
+
+        assertEquals(100, moves.size());
+
+        moves.clear();
+
+        assertTrue(moves.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> moves.get(0));
+    }
+
+    @Test
+    void testAddUniqueKeepsSmallestDie() {
+        MoveList moves = new MoveList();
+
+        moves.addUnique(Move.of(PLAYER_1_SIDE, 22, 25, 6));
+        moves.addUnique(Move.of(PLAYER_1_SIDE, 22, 25, 4));
+        moves.addUnique(Move.of(PLAYER_1_SIDE, 22, 25, 5));
+
+        assertEquals(1, moves.size());
+        assertEquals(4, Move.die(moves.get(0)));
+    }
+}
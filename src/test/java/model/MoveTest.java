@@ -0,0 +1,61 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class MoveTest {
+
+    @Test
+    void testPackAndUnpack() {
+        int move = Move.of(PLAYER_2_SIDE, 13, 8);
+
+        assertEquals(13, Move.from(move));
+        assertEquals(8, Move.to(move));
+        assertEquals(PLAYER_2_SIDE, Move.side(move));
+        assertFalse(Move.isHit(move));
+    }
+
+    @Test
+    void testHitFlagDoesNotChangeMove() {
+        int move = Move.withHit(Move.of(PLAYER_1_SIDE, 0, 5));
+
+        assertTrue(Move.isHit(move));
+        assertEquals(0, Move.from(move));
+        assertEquals(5, Move.to(move));
+        assertEquals(PLAYER_1_SIDE, Move.side(move));
+    }
+
+    @Test
+    void testBarAndOffSlots() {
+        assertEquals(0, Move.barSlot(PLAYER_1_SIDE));
+        assertEquals(25, Move.offSlot(PLAYER_1_SIDE));
+        assertEquals(25, Move.barSlot(PLAYER_2_SIDE));
+        assertEquals(0, Move.offSlot(PLAYER_2_SIDE));
+    }
+
+    @Test
+    void testDieAndFormat() {
+        assertEquals(5, Move.die(Move.of(PLAYER_2_SIDE, 13, 8, 5)));
+        assertEquals("13 -> 8", Move.format(Move.of(PLAYER_2_SIDE, 13, 8, 5)));
+        assertEquals("BAR -> 3", Move.format(Move.of(PLAYER_1_SIDE, 0, 3, 3)));
+        assertEquals("22 -> OFF", Move.format(Move.of(PLAYER_1_SIDE, 22, 25, 6)));
+        assertEquals("BAR -> 20", Move.format(Move.of(PLAYER_2_SIDE, 25, 20, 5)));
+    }
+}
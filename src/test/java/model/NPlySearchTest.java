@@ -0,0 +1,135 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class NPlySearchTest {
+    private Board board;
+    private Evaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        Player player1 = new Player("Alice");
+        Player player2 = new Player("Bob");
+        board = new Board(player1, player2);
+        evaluator = new PipCountEvaluator();
+    }
+
+    @Test
+    void testZeroPlyMatchesEvaluatorChoice() {
+        List<Play> plays = new PlayGenerator().generate(board, PLAYER_1_SIDE, 3, 1);
+
+        SearchResult result = new NPlySearch(evaluator).findBestPlay(board, PLAYER_1_SIDE, 3, 1, 0);
+
+        assertEquals(evaluator.choosePlay(board, PLAYER_1_SIDE, plays).toString(), result.getPlay().toString());
+        assertEquals(0, result.getDepth());
+        assertEquals(plays.size(), result.getNodes());
+    }
+
+    @Test
+    void testOnePlySearchLeavesBoardUnchanged() {
+        long hash = board.hash();
+
+        SearchResult result = new NPlySearch(evaluator).findBestPlay(board, PLAYER_2_SIDE, 6, 4, 1);
+
+        assertEquals(1, result.getDepth());
+        assertEquals(hash, board.hash());
+        assertTrue(result.getNodes() > 21);
+        assertTrue(result.getEquity() > -1 && result.getEquity() < 1);
+        assertTrue(result.getNodesPerSecond() > 0);
+    }
+
+    @Test
+    void testNodeLimitKeepsDeepestCompletedSearch() {
+        NPlySearch search = new NPlySearch(evaluator);
+        search.setNodeLimit(100);
+
+        SearchResult result = search.findBestPlay(board, PLAYER_1_SIDE, 5, 2, 2);
+
+        assertEquals(0, result.getDepth());
+        assertNotNull(result.getPlay());
+    }
+
+    @Test
+    void testFinishedGameIsScoredExactly() {
+        int[] slots = new int[26];
+        slots[24] = 1;
+        slots[1] = -15;
+        board.setPosition(slots, 14, 0);
+        float[] output = new float[Evaluator.OUTPUTS];
+
+        SearchResult result = new NPlySearch(evaluator).findBestPlay(board, PLAYER_1_SIDE, 6, 5, 1);
+
+        assertEquals("24 -> OFF", result.getPlay().toString());
+        assertEquals(2, result.getEquity(), 1e-6);
+        assertEquals(2, new NPlySearch(evaluator).evaluate(board, PLAYER_1_SIDE, 1, output), 1e-6);
+    }
+
+    @Test
+    void testSearchStopsWhenPlayerTwoBearsOffLastChecker() {
+        int[] slots = new int[26];
+        slots[24] = 1;
+        slots[1] = -1;
+        slots[6] = -1;
+        board.setPosition(slots, 14, 13);
+        float[] output = new float[Evaluator.OUTPUTS];
+
+        for (int plies = 0; plies <= 2; plies++) {
+            SearchResult result = new NPlySearch(evaluator).findBestPlay(board, PLAYER_2_SIDE, 6, 1, plies);
+
+            assertEquals(plies, result.getDepth());
+            assertEquals(1, result.getEquity(), 1e-6);
+            result.getPlay().apply(board);
+            assertEquals(-1, new NPlySearch(evaluator).evaluate(board, PLAYER_1_SIDE, plies, output), 1e-6);
+            result.getPlay().undo(board);
+        }
+    }
+
+    @Test
+    void testEvaluateRejectsNegativeDepth() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new NPlySearch(evaluator).evaluate(board, PLAYER_1_SIDE, -1, new float[Evaluator.OUTPUTS]));
+    }
+
+    @Test
+    void testTranspositionTableReusesSearchedPositions() {
+        float[] plain = new float[Evaluator.OUTPUTS];
+        float[] cached = new float[Evaluator.OUTPUTS];
+        NPlySearch search = new NPlySearch(evaluator);
+        float expected = search.evaluate(board, PLAYER_1_SIDE, 2, plain);
+        long plainNodes = search.getNodes();
+        TranspositionTable table = new TranspositionTable(1 << 16);
+        search.setTranspositionTable(table);
+
+        float first = search.evaluate(board, PLAYER_1_SIDE, 2, cached);
+        long firstNodes = search.getNodes();
+        float second = search.evaluate(board, PLAYER_1_SIDE, 2, cached);
+
+        assertEquals(expected, first, 1e-3);
+        assertEquals(expected, second, 1e-3);
+        assertTrue(firstNodes < plainNodes);
+        assertEquals(0, search.getNodes());
+        assertTrue(table.getHits() > 0);
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class NeuralEvaluatorTest {
+    private Board board;
+    private Player player1;
+    private Player player2;
+
+    @BeforeEach
+    void setUp() {
+        player1 = new Player("Alice");
+        player2 = new Player("Bob");
+        board = new Board(player1, player2);
+    }
+
+    @Test
+    void testEncodeStartingPosition() {
+        float[] inputs = new float[NeuralEvaluator.INPUTS];
+
+        NeuralEvaluator.encode(board, PLAYER_1_SIDE, inputs);
+
+        int sixPoint = (6 - 1) * 4;
+        assertArrayEquals(new float[]{1, 1, 1, 1}, new float[]{inputs[sixPoint], inputs[sixPoint + 1], inputs[sixPoint + 2], inputs[sixPoint + 3]});
+        int opponentMidpoint = NeuralEvaluator.INPUTS / 2 + (13 - 1) * 4;
+        assertEquals(1, inputs[opponentMidpoint + 2]);
+        assertEquals(1, inputs[opponentMidpoint + 3]);
+        assertEquals(0, inputs[NeuralEvaluator.INPUTS / 2 - 2]);
+    }
+
+    @Test
+    void testVectorAndScalarDotProductsAgree() {
+        NeuralNetwork network = NeuralNetwork.random(NeuralEvaluator.INPUTS, 3, Evaluator.OUTPUTS, 7);
+        float[] inputs = new float[NeuralEvaluator.INPUTS];
+        NeuralEvaluator.encode(board, PLAYER_2_SIDE, inputs);
+        float[] weights = new float[NeuralEvaluator.INPUTS + 5];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = (i % 7) - 3;
+        }
+
+        float scalar = DotProduct.scalarDot(weights, 5, inputs, inputs.length);
+
+        assertEquals(scalar, DotProduct.dot(weights, 5, inputs, inputs.length), 1e-3);
+        if (DotProduct.VECTORIZED) {
+            assertEquals(scalar, VectorDotProduct.dot(weights, 5, inputs, inputs.length), 1e-3);
+        }
+        assertEquals(3, network.getHiddenCount());
+    }
+
+    @Test
+    void testEvaluateProducesProbabilities() {
+        NeuralEvaluator evaluator = new NeuralEvaluator(NeuralNetwork.random(NeuralEvaluator.INPUTS, 16, Evaluator.OUTPUTS, 1));
+        float[] output = new float[Evaluator.OUTPUTS];
+
+        evaluator.evaluate(board, PLAYER_1_SIDE, output);
+
+        for (float probability : output) {
+            assertTrue(probability > 0 && probability < 1);
+        }
+    }
+
+    @Test
+    void testNetworkRoundTripsThroughStream() throws IOException {
+        NeuralNetwork network = NeuralNetwork.random(NeuralEvaluator.INPUTS, 4, Evaluator.OUTPUTS, 3);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        network.write(out);
+        NeuralNetwork copy = NeuralNetwork.read(new ByteArrayInputStream(out.toByteArray()));
+        float[] expected = new float[Evaluator.OUTPUTS];
+        float[] actual = new float[Evaluator.OUTPUTS];
+
+        new NeuralEvaluator(network).evaluate(board, PLAYER_1_SIDE, expected);
+        new NeuralEvaluator(copy).evaluate(board, PLAYER_1_SIDE, actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testCreateLoadsWeightsFileOrReportsFailure(@TempDir Path directory) throws IOException {
+        Path weights = directory.resolve("weights.bin");
+        try (OutputStream out = Files.newOutputStream(weights)) {
+            NeuralNetwork.random(NeuralEvaluator.INPUTS, 4, Evaluator.OUTPUTS, 3).write(out);
+        }
+
+        assertInstanceOf(NeuralEvaluator.class, Evaluator.create(weights));
+        assertInstanceOf(PipCountEvaluator.class, Evaluator.create(null));
+        assertThrows(IOException.class, () -> Evaluator.create(directory.resolve("missing.bin")));
+    }
+
+    @Test
+    void testCreateReportsMissingBearOffDatabase(@TempDir Path directory) throws IOException {
+        Path missing = directory.resolve("bearoff.db");
+
+        assertInstanceOf(PipCountEvaluator.class, Evaluator.create(null, null, missing));
+        assertThrows(IOException.class, () -> Evaluator.create(null, missing, null));
+    }
+
+    @Test
+    void testMismatchedNetworkThrows() {
+        NeuralNetwork network = NeuralNetwork.random(10, 4, Evaluator.OUTPUTS, 3);
+
+        assertThrows(IllegalArgumentException.class, () -> new NeuralEvaluator(network));
+    }
+
+    @Test
+    void testPipCountEvaluatorPrefersHit() {
+        int side = board.sideOf(player1);
+        board.getPositions().clear();
+        board.getPositions().put(1, new ArrayList<>(List.of(new Checker("White", player1))));
+        board.getPositions().put(10, new ArrayList<>(List.of(new Checker("White", player1))));
+        board.getPositions().put(3, new ArrayList<>(List.of(new Checker("Black", player2))));
+        board.getPositions().put(20, new ArrayList<>(List.of(new Checker("Black", player2))));
+        List<Play> plays = new PlayGenerator().generate(board, side, new int[]{0, 2});
+
+        Play best = new PipCountEvaluator().choosePlay(board, side, plays);
+
+        assertEquals(2, plays.size());
+        assertEquals("1 -> 3", best.toString());
+    }
+}
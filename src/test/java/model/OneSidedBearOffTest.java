@@ -0,0 +1,131 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class OneSidedBearOffTest {
+    private static OneSidedBearOff database;
+
+    @BeforeAll
+    static void generate() {
+        database = OneSidedBearOff.generate();
+    }
+
+    @Test
+    void testIndexIsDense() {
+        Set<Integer> indexes = new HashSet<>();
+        int[] counts = new int[OneSidedBearOff.POINTS];
+        collect(counts, 0, CHECKERS_PER_PLAYER, indexes);
+
+        assertEquals(OneSidedBearOff.POSITIONS, indexes.size());
+        assertTrue(indexes.stream().allMatch(index -> index >= 0 && index < OneSidedBearOff.POSITIONS));
+    }
+
+    @Test
+    void testSingleCheckerOnSixPoint() {
+        int index = OneSidedBearOff.index(new int[]{0, 0, 0, 0, 0, 1});
+        float[] turns = new float[OneSidedBearOff.MAX_TURNS];
+
+        database.getTurnDistribution(index, turns);
+
+        assertEquals(1.25, database.getExpectedTurns(index), 1e-6);
+        assertEquals(0.75, turns[1], 1e-4);
+        assertEquals(0.25, turns[2], 1e-4);
+    }
+
+    @Test
+    void testWriteAndMapRoundTrip(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("bearoff.db");
+        database.write(file);
+
+        OneSidedBearOff mapped = OneSidedBearOff.open(file);
+
+        int index = OneSidedBearOff.index(new int[]{2, 3, 0, 4, 1, 5});
+        float[] expected = new float[OneSidedBearOff.MAX_TURNS];
+        float[] actual = new float[OneSidedBearOff.MAX_TURNS];
+        database.getFirstOffDistribution(index, expected);
+        mapped.getFirstOffDistribution(index, actual);
+        assertEquals(database.getExpectedTurns(index), mapped.getExpectedTurns(index));
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testOpenRejectsOtherFiles(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("other.db");
+        Files.write(file, new byte[64]);
+
+        assertThrows(IllegalArgumentException.class, () -> OneSidedBearOff.open(file));
+    }
+
+    @Test
+    void testEvaluatorScoresRacesExactly() {
+        Board board = new Board(new Player("Alice"), new Player("Bob"));
+        Evaluator evaluator = new BearOffEvaluator(database, new PipCountEvaluator());
+        float[] output = new float[Evaluator.OUTPUTS];
+        int[] slots = new int[NUMBER_OF_POINTS + 2];
+        slots[24] = 1;
+        slots[6] = -15;
+        board.setPosition(slots, 14, 0);
+
+        evaluator.evaluate(board, PLAYER_1_SIDE, output);
+
+        assertEquals(1, output[Evaluator.WIN], 1e-4);
+        assertEquals(1, output[Evaluator.WIN_GAMMON], 1e-4);
+        assertEquals(0, output[Evaluator.LOSE_GAMMON], 1e-4);
+
+        evaluator.evaluate(board, PLAYER_2_SIDE, output);
+
+        assertEquals(0, output[Evaluator.WIN], 1e-4);
+        assertTrue(output[Evaluator.LOSE_GAMMON] > 0.5 && output[Evaluator.LOSE_GAMMON] < 0.6);
+    }
+
+    @Test
+    void testEvaluatorFallsBackOutsideBearOff() {
+        Board board = new Board(new Player("Alice"), new Player("Bob"));
+        float[] expected = new float[Evaluator.OUTPUTS];
+        float[] actual = new float[Evaluator.OUTPUTS];
+
+        new PipCountEvaluator().evaluate(board, PLAYER_1_SIDE, expected);
+        new BearOffEvaluator(database, new PipCountEvaluator()).evaluate(board, PLAYER_1_SIDE, actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    private static void collect(int[] counts, int point, int remaining, Set<Integer> indexes) {
+        if (point == counts.length) {
+            indexes.add(OneSidedBearOff.index(counts));
+            return;
+        }
+        for (int count = 0; count <= remaining; count++) {
+            counts[point] = count;
+            collect(counts, point + 1, remaining - count, indexes);
+        }
+        counts[point] = 0;
+    }
+}
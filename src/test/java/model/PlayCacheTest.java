@@ -0,0 +1,112 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class PlayCacheTest {
+
+    @Test
+    void testRepeatedRollIsServedFromCache() {
+        Board board = new Board(new Player("Alice"), new Player("Bob"));
+        PlayCache cache = new PlayCache(64);
+        PlayGenerator generator = new PlayGenerator(cache);
+
+        List<Play> first = generator.generate(board, PLAYER_1_SIDE, 3, 1);
+        List<Play> second = generator.generate(board, PLAYER_1_SIDE, 1, 3);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertThrows(UnsupportedOperationException.class, () -> first.remove(0));
+    }
+
+    @Test
+    void testKeysDependOnSideAndDice() {
+        Board board = new Board(new Player("Alice"), new Player("Bob"));
+
+        assertNotEquals(PlayCache.key(board, PLAYER_1_SIDE, 3, 1, 2), PlayCache.key(board, PLAYER_2_SIDE, 3, 1, 2));
+        assertNotEquals(PlayCache.key(board, PLAYER_1_SIDE, 3, 1, 2), PlayCache.key(board, PLAYER_1_SIDE, 4, 1, 2));
+        assertNotEquals(PlayCache.key(board, PLAYER_1_SIDE, 3, 3, 4), PlayCache.key(board, PLAYER_1_SIDE, 3, 3, 2));
+    }
+
+    @Test
+    void testCachedPlaysMatchGeneratedPlaysDuringGames() {
+        Board cached = new Board(new Player("Alice"), new Player("Bob"));
+        Board plain = new Board(new Player("Alice"), new Player("Bob"));
+        PlayGenerator cachedGenerator = new PlayGenerator(new PlayCache(256));
+        PlayGenerator plainGenerator = new PlayGenerator();
+        Random random = new Random(19);
+
+        for (int game = 0; game < 20; game++) {
+            cached.copyFrom(new Board(new Player("Alice"), new Player("Bob")));
+            plain.copyFrom(cached);
+            int side = PLAYER_1_SIDE;
+            for (int turn = 0; turn < 30; turn++) {
+                int die1 = random.nextInt(6) + 1;
+                int die2 = random.nextInt(6) + 1;
+                List<Play> expected = plainGenerator.generate(plain, side, die1, die2);
+                List<Play> actual = cachedGenerator.generate(cached, side, die1, die2);
+
+                assertEquals(expected.toString(), actual.toString());
+                int choice = random.nextInt(expected.size());
+                expected.get(choice).apply(plain);
+                actual.get(choice).apply(cached);
+                assertEquals(plain.hash(), cached.hash());
+                side = 1 - side;
+            }
+        }
+    }
+
+    @Test
+    void testMemoryIsBounded() {
+        PlayCache cache = new PlayCache(8);
+        List<Play> plays = List.of(new Play(new int[0]));
+        for (long key = 0; key < 1000; key++) {
+            cache.put(key, plays);
+        }
+
+        assertEquals(8, cache.getCapacity());
+        assertTrue(cache.getEvictions() > 0);
+        cache.clear();
+        assertNull(cache.get(999));
+    }
+
+    @Test
+    void testConcurrentGeneratorsShareCache() {
+        PlayCache cache = new PlayCache(1024);
+
+        IntStream.range(0, 36 * 50).parallel().forEach(i -> {
+            Board board = new Board(new Player("Alice"), new Player("Bob"));
+            int die1 = i % 6 + 1;
+            int die2 = i / 6 % 6 + 1;
+            List<Play> expected = new PlayGenerator().generate(board, PLAYER_1_SIDE, die1, die2);
+            List<Play> actual = new PlayGenerator(cache).generate(board, PLAYER_1_SIDE, die1, die2);
+            assertEquals(expected.toString(), actual.toString());
+        });
+
+        assertEquals(36 * 50, cache.getHits() + cache.getMisses());
+        assertTrue(cache.getHits() > cache.getMisses());
+    }
+}
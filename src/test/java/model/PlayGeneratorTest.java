@@ -0,0 +1,116 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayGeneratorTest {
+    private Board board;
+    private Player player1;
+    private Player player2;
+    private PlayGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        player1 = new Player("Alice");
+        player2 = new Player("Bob");
+        board = new Board(player1, player2);
+        generator = new PlayGenerator();
+    }
+
+    @Test
+    void testOpeningRollUsesBothDiceWithDistinctPositions() {
+        int side = board.sideOf(player1);
+
+        List<Play> plays = generator.generate(board, side, 3, 1);
+
+        assertFalse(plays.isEmpty());
+        Set<String> positions = new HashSet<>();
+        for (Play play : plays) {
+            assertEquals(2, play.size());
+            play.apply(board);
+            assertTrue(positions.add(board.getPositions().toString()), "Each play should lead to a new position.");
+            play.undo(board);
+        }
+        assertEquals(2, board.getCheckerCount(side, 1), "The board should be left unchanged.");
+    }
+
+    @Test
+    void testDoublesPlayFourMoves() {
+        List<Play> plays = generator.generate(board, board.sideOf(player2), 6, 6);
+
+        assertFalse(plays.isEmpty());
+        plays.forEach(play -> assertEquals(4, play.size()));
+    }
+
+    @Test
+    void testHigherDieMustBePlayedWhenOnlyOneDieCanBeUsed() {
+        board.getPositions().clear();
+        board.getPositions().put(10, new ArrayList<>(List.of(new Checker("White", player1))));
+        board.getPositions().put(19, new ArrayList<>(List.of(new Checker("Black", player2), new Checker("Black", player2))));
+
+        List<Play> plays = generator.generate(board, board.sideOf(player1), 3, 6);
+
+        assertEquals(1, plays.size());
+        assertEquals(1, plays.getFirst().size());
+        assertEquals(10, Move.from(plays.getFirst().getMove(0)));
+        assertEquals(16, Move.to(plays.getFirst().getMove(0)));
+    }
+
+    @Test
+    void testClosedBoardReturnsEmptyPlay() {
+        board.getBarForPlayer(player1).add(new Checker("White", player1));
+        for (int point = 1; point <= 6; point++) {
+            board.getPositions().put(point, new ArrayList<>(List.of(new Checker("Black", player2), new Checker("Black", player2))));
+        }
+
+        List<Play> plays = generator.generate(board, board.sideOf(player1), 4, 2);
+
+        assertEquals(1, plays.size());
+        assertEquals(0, plays.getFirst().size());
+    }
+
+    @Test
+    void testBearOffWithLargerDieOnlyFromRearmostPoint() {
+        int side = board.sideOf(player1);
+        board.getPositions().clear();
+        board.getPositions().put(20, new ArrayList<>(List.of(new Checker("White", player1))));
+        board.getPositions().put(23, new ArrayList<>(List.of(new Checker("White", player1))));
+
+        assertEquals(Board.ILLEGAL_TARGET, board.getMoveTarget(side, 23, 6));
+        assertEquals(Move.offSlot(side), board.getMoveTarget(side, 20, 6));
+    }
+
+    @Test
+    void testRemainingDiceOfPartlyPlayedRoll() {
+        int side = board.sideOf(player1);
+
+        List<Play> single = generator.generate(board, side, new int[]{0, 4});
+        List<Play> doubles = generator.generate(board, side, new int[]{2, 0, 2, 0});
+
+        single.forEach(play -> assertEquals(1, play.size()));
+        doubles.forEach(play -> assertEquals(2, play.size()));
+        assertEquals(0, generator.generate(board, side, new int[]{0, 0}).get(0).size());
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class PositionIdTest {
+    private Board board;
+    private Player player1;
+    private Player player2;
+
+    @BeforeEach
+    void setUp() {
+        player1 = new Player("Alice");
+        player2 = new Player("Bob");
+        board = new Board(player1, player2);
+    }
+
+    @Test
+    void testStartingPosition() {
+        assertEquals("4HPwATDgc/ABMA", PositionId.encode(board, PLAYER_1_SIDE));
+        assertEquals("4HPwATDgc/ABMA", PositionId.encode(board, PLAYER_2_SIDE));
+    }
+
+    @Test
+    void testRoundTripRestoresPositionAndHash() {
+        int side = board.sideOf(player1);
+        board.apply(Move.of(side, 1, 4));
+        board.getBarForPlayer(player2).add(new Checker("Black", player2));
+        board.getPositions().get(6).remove(0);
+        board.getPositions().put(20, new ArrayList<>(List.of(new Checker("White", player1))));
+        board.getPositions().get(19).remove(0);
+        board.getPositions().get(19).remove(0);
+        board.getBearOffForPlayer(player1).add(new Checker("White", player1));
+        String id = PositionId.encode(board, side);
+
+        Board decoded = new Board(player1, player2);
+        PositionId.decode(id, decoded, side);
+
+        assertEquals(board.hash(), decoded.hash());
+        assertEquals(1, decoded.getBarCount(PLAYER_2_SIDE));
+        assertEquals(1, decoded.getBearOffCount(PLAYER_1_SIDE));
+        assertEquals(id, PositionId.encode(decoded, side));
+    }
+
+    @Test
+    void testSideOnRollChangesId() {
+        board.apply(Move.of(board.sideOf(player1), 1, 4));
+
+        assertNotEquals(PositionId.encode(board, PLAYER_1_SIDE), PositionId.encode(board, PLAYER_2_SIDE));
+    }
+
+    @Test
+    void testInvalidIdThrows() {
+        assertThrows(IllegalArgumentException.class, () -> PositionId.decode("4HPwATDg", board, PLAYER_1_SIDE));
+        assertThrows(IllegalArgumentException.class, () -> PositionId.decode("//////////////", board, PLAYER_1_SIDE));
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void testStoreAndProbeRoundTrip() {
+        TranspositionTable table = new TranspositionTable(100);
+        float[] output = {0.6f, 0.2f, 0.01f, 0.1f, 0};
+        float[] read = new float[Evaluator.OUTPUTS];
+
+        assertFalse(table.probe(42, 1, read));
+        table.store(42, 2, output);
+
+        assertTrue(table.probe(42, 2, read));
+        assertArrayEquals(output, read, 1e-3f);
+        assertTrue(table.probe(42, 1, read));
+        assertFalse(table.probe(42, 3, read));
+        assertEquals(4, table.getProbes());
+        assertEquals(2, table.getHits());
+        assertEquals(128, table.getCapacity());
+    }
+
+    @Test
+    void testDeepEntryIsKeptOverShallowerResults() {
+        TranspositionTable table = new TranspositionTable(2);
+        float[] output = new float[Evaluator.OUTPUTS];
+        table.store(1, 3, output);
+        table.store(2, 1, output);
+        table.store(3, 2, output);
+
+        assertTrue(table.probe(1, 3, output));
+        assertFalse(table.probe(2, 1, output));
+        assertTrue(table.probe(3, 2, output));
+        assertEquals(1, table.getCollisions());
+
+        table.store(4, 3, output);
+
+        assertFalse(table.probe(1, 1, output));
+        assertTrue(table.probe(4, 3, output));
+    }
+
+    @Test
+    void testShallowerResultForTheSameKeyKeepsTheDeepEntry() {
+        TranspositionTable table = new TranspositionTable(2);
+        float[] deep = {0.7f, 0, 0, 0, 0};
+        float[] shallow = {0.4f, 0, 0, 0, 0};
+        float[] read = new float[Evaluator.OUTPUTS];
+        table.store(1, 3, deep);
+        table.store(1, 1, shallow);
+
+        assertTrue(table.probe(1, 3, read));
+        assertEquals(0.7f, read[0], 1e-3f);
+    }
+
+    @Test
+    void testRejectsDepthOutOfRange() {
+        TranspositionTable table = new TranspositionTable(16);
+
+        assertThrows(IllegalArgumentException.class, () -> table.store(1, 0, new float[Evaluator.OUTPUTS]));
+        assertThrows(IllegalArgumentException.class,
+                () -> table.store(1, TranspositionTable.MAX_DEPTH + 1, new float[Evaluator.OUTPUTS]));
+    }
+
+    @Test
+    void testConcurrentWritesNeverReturnMixedEntries() {
+        TranspositionTable table = new TranspositionTable(64);
+
+        IntStream.range(0, 200_000).parallel().forEach(i -> {
+            long key = i % 1000 + 1;
+            float[] output = new float[Evaluator.OUTPUTS];
+            if (table.probe(key, 1, output)) {
+                for (float value : output) {
+                    assertEquals(key / 1000f, value, 1e-3f);
+                }
+            } else {
+                Arrays.fill(output, key / 1000f);
+                table.store(key, 1 + i % 2, output);
+            }
+        });
+
+        assertEquals(200_000, table.getProbes());
+    }
+}
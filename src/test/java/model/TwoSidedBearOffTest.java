@@ -0,0 +1,95 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package model;
+
+import enums.CubeOwnership;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class TwoSidedBearOffTest {
+    private static TwoSidedBearOff database;
+    private Board board;
+
+    @BeforeAll
+    static void generate() {
+        database = TwoSidedBearOff.generate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        board = new Board(new Player("Alice"), new Player("Bob"));
+    }
+
+    @Test
+    void testCoversOnlyShortRaces() {
+        assertFalse(TwoSidedBearOff.covers(board));
+
+        setRace(1, 1);
+
+        assertTrue(TwoSidedBearOff.covers(board));
+    }
+
+    @Test
+    void testCertainWin() {
+        setRace(1, 1);
+        int index = TwoSidedBearOff.index(board, PLAYER_1_SIDE);
+
+        assertEquals(1, database.getCubelessEquity(index), 1e-4);
+        assertEquals(1, database.getCubefulEquity(index, CubeOwnership.CENTERED), 1e-4);
+        assertEquals(1, database.getCubefulEquity(index, CubeOwnership.OPPONENT_OWNED), 1e-4);
+    }
+
+    @Test
+    void testLastRollDoubleIsCorrect() {
+        setRace(6, 1);
+        int index = TwoSidedBearOff.index(board, PLAYER_1_SIDE);
+
+        assertEquals(0.5, database.getCubelessEquity(index), 1e-4);
+        assertEquals(0.5, database.getCubefulEquity(index, CubeOwnership.OPPONENT_OWNED), 1e-4);
+        assertEquals(1, database.getCubefulEquity(index, CubeOwnership.CENTERED), 1e-4);
+        assertEquals(1, database.getCubefulEquity(index, CubeOwnership.OWNED), 1e-4);
+        assertEquals(1, database.getCubelessEquity(TwoSidedBearOff.index(board, PLAYER_2_SIDE)), 1e-4);
+    }
+
+    @Test
+    void testWriteAndMapRoundTrip(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("twosided.db");
+        database.write(file);
+
+        TwoSidedBearOff mapped = TwoSidedBearOff.open(file);
+
+        int index = TwoSidedBearOff.ENTRIES - 1;
+        assertEquals(database.getCubelessEquity(index), mapped.getCubelessEquity(index));
+        assertEquals(database.getCubefulEquity(index, CubeOwnership.CENTERED),
+                mapped.getCubefulEquity(index, CubeOwnership.CENTERED));
+    }
+
+    private void setRace(int player1Point, int player2Point) {
+        int[] slots = new int[NUMBER_OF_POINTS + 2];
+        slots[Move.offSlot(PLAYER_1_SIDE) - player1Point] = 1;
+        slots[player2Point] = -1;
+        board.setPosition(slots, CHECKERS_PER_PLAYER - 1, CHECKERS_PER_PLAYER - 1);
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package service;
+
+import model.Board;
+import model.NPlySearch;
+import model.PipCountEvaluator;
+import model.Player;
+import model.PositionId;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class BatchAnalyzerTest {
+    private static final String OPENING = "4HPwATDgc/ABMA";
+
+    @Test
+    void testResultsAreWrittenInInputOrder() throws IOException, InterruptedException {
+        String input = "# opening rolls\n" + OPENING + " 31\n\n" + OPENING + " 6 4\n"
+                + "not-an-id 21\n" + OPENING + " 7 1\n" + OPENING + " 55 # doubles\n";
+        StringWriter output = new StringWriter();
+
+        long count = new BatchAnalyzer(PipCountEvaluator::new, 0, 3, 2)
+                .analyze(new BufferedReader(new StringReader(input)), output);
+
+        String[] lines = output.toString().split(System.lineSeparator());
+        assertEquals(5, count);
+        assertEquals(5, lines.length);
+        assertTrue(lines[0].startsWith(OPENING + "\t31\t"));
+        assertTrue(lines[1].startsWith(OPENING + "\t64\t"));
+        assertTrue(lines[2].startsWith("not-an-id\tERROR\t"));
+        assertTrue(lines[3].startsWith(OPENING + "\tERROR\t"));
+        assertTrue(lines[4].startsWith(OPENING + "\t55\t"));
+    }
+
+    @Test
+    void testParallelResultsMatchSingleSearch() throws IOException, InterruptedException {
+        StringBuilder input = new StringBuilder();
+        for (int die1 = 1; die1 <= 6; die1++) {
+            for (int die2 = 1; die2 <= 6; die2++) {
+                input.append(OPENING).append(' ').append(die1).append(die2).append('\n');
+            }
+        }
+        StringWriter output = new StringWriter();
+
+        new BatchAnalyzer(PipCountEvaluator::new, 1, 4, 3)
+                .analyze(new BufferedReader(new StringReader(input.toString())), output);
+
+        String[] lines = output.toString().split(System.lineSeparator());
+        assertEquals(36, lines.length);
+        Board board = new Board(new Player("Alice"), new Player("Bob"));
+        PositionId.decode(OPENING, board, PLAYER_1_SIDE);
+        String expected = new NPlySearch(new PipCountEvaluator()).findBestPlay(board, PLAYER_1_SIDE, 4, 2, 1)
+                .getPlay().toString();
+        assertEquals(expected, lines[3 * 6 + 1].split("\t")[2]);
+        assertTrue(lines[3 * 6 + 1].endsWith("\t1"));
+    }
+
+    @Test
+    void testRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchAnalyzer(PipCountEvaluator::new, 0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BatchAnalyzer(PipCountEvaluator::new, 0, 1, 0));
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package service;
+
+import enums.CubeAction;
+import enums.CubeOwnership;
+import exceptions.InvalidCommandException;
+import model.Evaluator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class CubeDecisionEngineTest {
+    private static final float EFFICIENCY = CubeDecisionEngine.DEFAULT_CUBE_EFFICIENCY;
+
+    @Test
+    void testDeadCubeEquityIsCubeless() {
+        float[] output = {0.64f, 0.2f, 0.02f, 0.1f, 0.01f};
+
+        for (CubeOwnership ownership : CubeOwnership.values()) {
+            assertEquals(Evaluator.equity(output), CubeDecisionEngine.cubefulEquity(output, ownership, 0), 1e-6);
+        }
+    }
+
+    @Test
+    void testLiveCubeEquityFollowsTakeAndCashPoints() {
+        float[] even = {0.5f, 0, 0, 0, 0};
+
+        assertEquals(0, CubeDecisionEngine.cubefulEquity(even, CubeOwnership.CENTERED, 1), 1e-6);
+        assertEquals(0.25, CubeDecisionEngine.cubefulEquity(even, CubeOwnership.OWNED, 1), 1e-6);
+        assertEquals(-0.25, CubeDecisionEngine.cubefulEquity(even, CubeOwnership.OPPONENT_OWNED, 1), 1e-6);
+        assertEquals(-1, CubeDecisionEngine.cubefulEquity(new float[]{0.2f, 0, 0, 0, 0},
+                CubeOwnership.CENTERED, 1), 1e-6);
+        assertEquals(1, CubeDecisionEngine.cubefulEquity(new float[]{0.8f, 0, 0, 0, 0},
+                CubeOwnership.CENTERED, 1), 1e-6);
+    }
+
+    @Test
+    void testMoneyDecisionsByWinningChances() {
+        assertEquals(CubeAction.NO_DOUBLE, money(0.6f, 0).getAction());
+        assertEquals(CubeAction.DOUBLE_TAKE, money(0.7f, 0).getAction());
+        assertEquals(CubeAction.DOUBLE_PASS, money(0.9f, 0).getAction());
+        assertEquals(CubeAction.TOO_GOOD_PASS, money(0.85f, 0.5f).getAction());
+
+        CubeDecision doublePass = money(0.9f, 0);
+        assertTrue(doublePass.shouldDouble());
+        assertFalse(doublePass.shouldTake());
+        assertEquals(1, doublePass.getEquity(), 1e-6);
+    }
+
+    @Test
+    void testFinalGameDecisionUsesScore() {
+        MatchEquityTable table = MatchEquityTable.getDefault();
+        float[] even = {0.5f, 0, 0, 0, 0};
+
+        CubeDecision trailing = CubeDecisionEngine.analyzeMatch(even, CubeOwnership.CENTERED, EFFICIENCY, 1, table, 0, -1);
+        CubeDecision leading = CubeDecisionEngine.analyzeMatch(even, CubeOwnership.CENTERED, EFFICIENCY, 1, table, 0, 3);
+
+        assertEquals(-0.5, trailing.getNoDoubleEquity(), 1e-6);
+        assertEquals(CubeAction.DOUBLE_TAKE, trailing.getAction());
+        assertEquals(CubeAction.NO_DOUBLE, leading.getAction());
+        assertEquals(1, leading.getNoDoubleEquity(), 1e-6);
+    }
+
+    @Test
+    void testLongMatchDecisionsFollowMoneyPlay() {
+        MatchEquityTable table = MatchEquityTable.getDefault();
+
+        for (float win : new float[]{0.6f, 0.7f, 0.9f}) {
+            float[] output = {win, 0.1f, 0, 0.05f, 0};
+            CubeDecision money = CubeDecisionEngine.analyzeMoney(output, CubeOwnership.CENTERED, EFFICIENCY);
+            CubeDecision match = CubeDecisionEngine.analyzeMatch(output, CubeOwnership.CENTERED, EFFICIENCY, 1,
+                    table, 40, 0);
+
+            assertEquals(money.getAction(), match.getAction());
+        }
+    }
+
+    @Test
+    void testAnalyzeReadsCubeAndMatchFromEngine() throws InvalidCommandException {
+        MatchManager match = new MatchManager("Alice", "Bob", 1);
+        GameEngine engine = new GameEngine(match.getPlayer1(), match.getPlayer2());
+        Evaluator evaluator = (board, side, output) -> {
+            output[Evaluator.WIN] = 0.75f;
+            output[Evaluator.WIN_GAMMON] = 0;
+            output[Evaluator.WIN_BACKGAMMON] = 0;
+            output[Evaluator.LOSE_GAMMON] = 0;
+            output[Evaluator.LOSE_BACKGAMMON] = 0;
+        };
+        CubeDecisionEngine cubeEngine = new CubeDecisionEngine(evaluator);
+
+        assertEquals(CubeAction.DOUBLE_TAKE, cubeEngine.analyze(engine).getAction());
+
+        engine.setMatchManager(match);
+        CubeDecision finalGame = cubeEngine.analyze(engine);
+        assertEquals(CubeAction.NO_DOUBLE, finalGame.getAction());
+        assertEquals(1, finalGame.getDoublePassEquity(), 1e-6);
+        assertEquals(finalGame.getNoDoubleEquity(), CubeDecisionEngine.cubefulEquity(
+                new float[]{0.75f, 0, 0, 0, 0}, CubeOwnership.CENTERED, EFFICIENCY), 1e-6);
+
+        engine.setMatchManager(null);
+        engine.offerDouble();
+        engine.acceptDouble();
+        engine.endTurn();
+        float[] output = new float[Evaluator.OUTPUTS];
+        evaluator.evaluate(engine.getBoard(), PLAYER_2_SIDE, output);
+        assertEquals(CubeDecisionEngine.cubefulEquity(output, CubeOwnership.OWNED, EFFICIENCY),
+                cubeEngine.analyze(engine).getNoDoubleEquity(), 1e-6);
+        assertEquals(EFFICIENCY, cubeEngine.getCubeEfficiency(engine.getBoard(), PLAYER_1_SIDE), 1e-6);
+    }
+
+    /**
+     * Analyses a centered money cube for gammonless or gammonish winning chances.
+     *
+     * @param win       the winning chances.
+     * @param winGammon the gammon winning chances.
+     * @return the decision.
+     */
+    private static CubeDecision money(float win, float winGammon) {
+        return CubeDecisionEngine.analyzeMoney(new float[]{win, winGammon, 0, 0, 0}, CubeOwnership.CENTERED,
+                EFFICIENCY);
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package service;
+
+import exceptions.InvalidCommandException;
+import model.Board;
+import model.Checker;
+import model.Play;
+import model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class GameEngineTest {
+    private Player player1;
+    private Player player2;
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        player1 = new Player("Alice");
+        player2 = new Player("Bob");
+        engine = new GameEngine(player1, player2);
+    }
+
+    @Test
+    void testRandomGameRunsToCompletion() {
+        Random random = new Random(42);
+
+        int turns = 0;
+        while (!engine.isGameOver() && turns < 10_000) {
+            List<Play> plays = engine.getLegalPlays(random.nextInt(6) + 1, random.nextInt(6) + 1);
+            engine.play(plays.get(random.nextInt(plays.size())));
+            turns++;
+        }
+
+        assertTrue(engine.isGameOver());
+        assertEquals(CHECKERS_PER_PLAYER, engine.getBoard().getBearOffCount(engine.getWinner()));
+        assertTrue(engine.getPoints() >= SINGLE);
+    }
+
+    @Test
+    void testPlayPassesTurn() {
+        engine.play(engine.getLegalPlays(3, 1).get(0));
+
+        assertEquals(PLAYER_2_SIDE, engine.getSideToMove());
+        assertEquals(player2, engine.getPlayerToMove());
+    }
+
+    @Test
+    void testRefusedDoubleWinsForDoubler() {
+        engine.offerDouble();
+        engine.refuseDouble();
+
+        assertTrue(engine.isGameOver());
+        assertEquals(PLAYER_1_SIDE, engine.getWinner());
+        assertEquals(1, engine.getPoints());
+    }
+
+    @Test
+    void testAcceptedDoubleGivesCubeToResponder() {
+        engine.offerDouble();
+        engine.acceptDouble();
+
+        assertEquals(2, engine.getDoublingManager().getDoublingCube().getValue());
+        assertEquals(player2, engine.getDoublingManager().getDoublingCube().getOwner());
+        assertEquals(PLAYER_1_SIDE, engine.getSideToMove());
+        assertFalse(engine.canDouble(PLAYER_1_SIDE));
+        assertThrows(InvalidCommandException.class, () -> engine.offerDouble());
+    }
+
+    @Test
+    void testAnswerWithoutDoubleThrows() {
+        assertThrows(InvalidCommandException.class, () -> engine.acceptDouble());
+        assertThrows(InvalidCommandException.class, () -> engine.refuseDouble());
+    }
+
+    @Test
+    void testGammonAndBackgammon() {
+        Board board = engine.getBoard();
+        board.getPositions().clear();
+        for (int i = 0; i < CHECKERS_PER_PLAYER; i++) {
+            board.getBearOffForPlayer(player1).add(new Checker("White", player1));
+        }
+        board.getPositions().put(10, new ArrayList<>(List.of(new Checker("Black", player2))));
+
+        assertEquals(PLAYER_1_SIDE, engine.getWinner());
+        assertEquals(GAMMON, engine.getResultMultiplier());
+
+        board.getPositions().put(20, new ArrayList<>(List.of(new Checker("Black", player2))));
+
+        assertEquals(BACKGAMMON, engine.getResultMultiplier());
+
+        board.getBearOffForPlayer(player2).add(new Checker("Black", player2));
+
+        assertEquals(SINGLE, engine.getResultMultiplier());
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchEquityTableTest {
+
+    @Test
+    void testLastGameDecidesOnFinalLead() {
+        MatchEquityTable table = MatchEquityTable.generate(4, 12, 0, 0);
+
+        assertEquals(1, table.getWinningChance(0, 2));
+        assertEquals(0.5, table.getWinningChance(0, 0));
+        assertEquals(0, table.getWinningChance(0, -1));
+        assertEquals(0.75, table.getWinningChance(1, 1), 1e-6);
+        assertEquals(0.5, table.getWinningChance(1, 0), 1e-6);
+        assertEquals(1, table.getEquity(99, 999), 1e-6);
+    }
+
+    @Test
+    void testGeneratedTableIsSymmetricAndMonotone() {
+        MatchEquityTable table = MatchEquityTable.getDefault();
+
+        assertSame(table, MatchEquityTable.getDefault());
+        for (int games = 0; games <= 10; games++) {
+            for (int lead = -20; lead <= 20; lead++) {
+                assertEquals(1, table.getWinningChance(games, lead) + table.getWinningChance(games, -lead), 1e-5);
+                assertTrue(table.getWinningChance(games, lead + 1) >= table.getWinningChance(games, lead));
+            }
+        }
+        assertTrue(table.getWinningChance(10, 3) < table.getWinningChance(2, 3));
+    }
+
+    @Test
+    void testWriteAndReadRoundTrip(@TempDir Path directory) throws IOException {
+        MatchEquityTable table = MatchEquityTable.generate(6, 20, 0.3f, 0.02f);
+        Path file = directory.resolve("met.txt");
+
+        table.write(file);
+        MatchEquityTable read = MatchEquityTable.read(file);
+
+        assertEquals(6, read.getMaxGames());
+        assertEquals(20, read.getMaxLead());
+        for (int games = 0; games <= 6; games++) {
+            for (int lead = -20; lead <= 20; lead++) {
+                assertEquals(table.getWinningChance(games, lead), read.getWinningChance(games, lead), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    void testReadRejectsTruncatedTable(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("met.txt");
+        Files.writeString(file, "# too short\n1 3\n0 0 0 0.5 1 1 1\n");
+
+        assertThrows(IllegalArgumentException.class, () -> MatchEquityTable.read(file));
+    }
+}
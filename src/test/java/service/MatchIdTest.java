@@ -0,0 +1,58 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class MatchIdTest {
+
+    @Test
+    void testMoneyGameStart() {
+        MatchId matchId = new MatchId(1, MatchId.CENTERED, PLAYER_2_SIDE, false, 0, 0, 0, 0, 0);
+
+        assertEquals("cAkAAAAAAAAA", matchId.encode());
+    }
+
+    @Test
+    void testRoundTripFromMatchState() {
+        MatchManager matchManager = new MatchManager("Alice", "Bob", 7);
+        DoublingManager doublingManager = new DoublingManager();
+        matchManager.incrementScore(matchManager.getPlayer1(), 3);
+        matchManager.incrementScore(matchManager.getPlayer2(), 5);
+        doublingManager.getDoublingCube().doubleValue(matchManager.getPlayer2());
+
+        MatchId decoded = MatchId.decode(MatchId.of(matchManager, doublingManager, PLAYER_1_SIDE, 6, 4).encode());
+
+        assertEquals(2, decoded.getCubeValue());
+        assertEquals(PLAYER_2_SIDE, decoded.getCubeOwner());
+        assertEquals(PLAYER_1_SIDE, decoded.getSideOnRoll());
+        assertFalse(decoded.isDoubleOffered());
+        assertEquals(6, decoded.getDie1());
+        assertEquals(4, decoded.getDie2());
+        assertEquals(7, decoded.getMatchLength());
+        assertEquals(3, decoded.getPlayer1Score());
+        assertEquals(5, decoded.getPlayer2Score());
+    }
+
+    @Test
+    void testInvalidIdThrows() {
+        assertThrows(IllegalArgumentException.class, () -> MatchId.decode("cAkA"));
+        assertThrows(IllegalArgumentException.class, () -> new MatchId(1, MatchId.CENTERED, PLAYER_1_SIDE, false, 0, 0, 1 << 15, 0, 0).encode());
+    }
+}
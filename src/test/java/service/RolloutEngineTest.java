@@ -0,0 +1,128 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+package service;
+
+import model.Board;
+import model.DoublingCube;
+import model.PipCountEvaluator;
+import model.Player;
+import model.PositionId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class RolloutEngineTest {
+    private Player player1;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        player1 = new Player("Alice");
+        Player player2 = new Player("Bob");
+        board = new Board(player1, player2);
+    }
+
+    @Test
+    void testRolloutAggregatesAllTrials() {
+        long hash = board.hash();
+        RolloutEngine engine = new RolloutEngine(new RandomPolicy());
+
+        RolloutResult result = engine.rollout(board, PLAYER_1_SIDE, new DoublingCube(), 300, 1);
+
+        assertEquals(300, result.getTrials());
+        assertEquals(hash, board.hash());
+        assertTrue(result.getEquity() >= -3 && result.getEquity() <= 3);
+        assertTrue(result.getStandardError() > 0);
+        float[] output = result.getOutput();
+        assertTrue(output[0] > 0 && output[0] < 1);
+    }
+
+    @Test
+    void testSameSeedGivesSameResult() {
+        MovePolicy policy = (engine, plays) -> plays.get(plays.size() / 2);
+        RolloutEngine engine = new RolloutEngine(policy, policy, new ForkJoinPool(4), 16);
+
+        RolloutResult first = engine.rollout(board, PLAYER_2_SIDE, new DoublingCube(), 200, 42);
+        RolloutResult second = engine.rollout(board, PLAYER_2_SIDE, new DoublingCube(), 200, 42);
+
+        assertEquals(first.getEquity(), second.getEquity(), 1e-12);
+        assertEquals(first.getStandardError(), second.getStandardError(), 1e-12);
+        assertEquals(200, first.getTrials() + first.getTruncatedTrials());
+    }
+
+    @Test
+    void testCertainGammonIsScoredInStartingCubeUnits() {
+        PositionId.decode("AQAA/P8BAAAAAA", board, PLAYER_1_SIDE);
+        DoublingCube cube = new DoublingCube();
+        cube.doubleValue(player1);
+        RolloutEngine engine = new RolloutEngine(new RandomPolicy());
+
+        RolloutResult result = engine.rollout(board, PLAYER_1_SIDE, cube, 50, 7);
+
+        assertEquals(2, result.getEquity(), 1e-9);
+        assertEquals(0, result.getStandardError(), 1e-9);
+        assertEquals(1, result.getOutput()[0], 1e-6);
+    }
+
+    @Test
+    void testRotatedRollsCoverEveryCombination() {
+        int[] rotation = new int[36];
+        for (int i = 0; i < rotation.length; i++) {
+            rotation[i] = i;
+        }
+        Set<Integer> firstRolls = new HashSet<>();
+        Set<Integer> rollPairs = new HashSet<>();
+
+        for (int trial = 0; trial < 36; trial++) {
+            firstRolls.add(RolloutEngine.rotatedRoll(rotation, trial, 0));
+        }
+        for (int trial = 0; trial < 36 * 36; trial++) {
+            rollPairs.add(RolloutEngine.rotatedRoll(rotation, trial, 0) * 36 + RolloutEngine.rotatedRoll(rotation, trial, 1));
+        }
+
+        assertEquals(36, firstRolls.size());
+        assertEquals(36 * 36, rollPairs.size());
+    }
+
+    @Test
+    void testLuckAdjustmentReducesStandardError() {
+        PositionId.decode("5tycAQDOObMBAA", board, PLAYER_1_SIDE);
+        RolloutEngine engine = new RolloutEngine(new EvaluatorPolicy(PipCountEvaluator::new));
+        engine.setRotatedDice(true);
+
+        RolloutResult plain = engine.rollout(board, PLAYER_1_SIDE, new DoublingCube(), 360, 3);
+        engine.setLuckAdjustment(PipCountEvaluator::new);
+        RolloutResult adjusted = engine.rollout(board, PLAYER_1_SIDE, new DoublingCube(), 360, 3);
+
+        assertEquals(plain.getUnadjustedEquity(), adjusted.getUnadjustedEquity(), 1e-9);
+        assertTrue(adjusted.getStandardError() < plain.getStandardError() * 0.75,
+                adjusted.getStandardError() + " vs " + plain.getStandardError());
+    }
+
+    @Test
+    void testTrialsMustBePositive() {
+        RolloutEngine engine = new RolloutEngine(new RandomPolicy());
+
+        assertThrows(IllegalArgumentException.class, () -> engine.rollout(board, PLAYER_1_SIDE, new DoublingCube(), 0, 1));
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+
+
+package service;
+
+import model.Move;
+import model.MoveList;
+import model.Player;
+import model.PositionId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class ScriptReplayerTest {
+    private static final String OPENING = "4HPwATDgc/ABMA";
+
+    private final ScriptReplayer replayer = new ScriptReplayer();
+
+    private static CommandScript script(String text) throws IOException {
+        return CommandScript.parse("script", new BufferedReader(new StringReader(text)));
+    }
+
+    /**
+     * Plays the first listed option for every die of a 3-1 from the opening, as the console would.
+     */
+    private static String openingThreeOneFirstOptions() {
+        GameEngine engine = new GameEngine(new Player("Alice"), new Player("Bob"));
+        MoveList moves = new MoveList();
+        int[] rolls = {3, 1};
+        for (int i = 0; i < 2; i++) {
+            engine.generateMoves(rolls, moves);
+            int move = moves.get(0);
+            engine.applyMove(move);
+            rolls[rolls[0] == Move.die(move) ? 0 : 1] = 0;
+        }
+        engine.endTurn();
+        return PositionId.encode(engine.getBoard(), engine.getSideToMove());
+    }
+
+    @Test
+    void testRollPlaysTheSelectedOptions() throws IOException {
+        ReplayResult result = replayer.replay(script("dice 3 1\nroll\na\n\nA\n"), PLAYER_1_SIDE);
+
+        assertEquals(openingThreeOneFirstOptions(), result.getPositionId());
+        assertEquals(PLAYER_2_SIDE, result.getEngine().getSideToMove());
+        assertEquals(2, result.getMovesPlayed());
+        assertEquals(4, result.getLinesReplayed());
+        assertEquals(0, result.getInvalidLines());
+    }
+
+    @Test
+    void testInvalidOptionIsCountedAndTheNextLineUsed() throws IOException {
+        ReplayResult result = replayer.replay(script("dice 3 1\nroll\nZ\nA\nA\n"), PLAYER_1_SIDE);
+
+        assertEquals(openingThreeOneFirstOptions(), result.getPositionId());
+        assertEquals(2, result.getMovesPlayed());
+        assertEquals(1, result.getInvalidLines());
+    }
+
+    @Test
+    void testRollEndsTheTurnWhenTheScriptEnds() throws IOException {
+        ReplayResult result = replayer.replay(script("dice 3 1\nroll\nA\n"), PLAYER_1_SIDE);
+
+        assertEquals(1, result.getMovesPlayed());
+        assertEquals(PLAYER_2_SIDE, result.getEngine().getSideToMove());
+    }
+
+    @Test
+    void testCommandsAScriptCannotRunAreCounted() throws IOException {
+        ReplayResult result = replayer.replay(script("pip\ndouble\nnonsense\ndice 9 1\n"), PLAYER_2_SIDE);
+
+        assertEquals(OPENING, PositionId.encode(result.getEngine().getBoard(), PLAYER_1_SIDE));
+        assertEquals(PLAYER_2_SIDE, result.getEngine().getSideToMove());
+        assertEquals(4, result.getLinesReplayed());
+        assertEquals(0, result.getMovesPlayed());
+        assertEquals(3, result.getInvalidLines());
+        assertTrue(result.toString().endsWith("\t-\t0\t3"));
+    }
+
+    @Test
+    void testNestedScriptsArePlayed(@TempDir Path directory) throws IOException {
+        Path nested = directory.resolve("nested.txt");
+        Files.writeString(nested, "dice 3 1\nroll\nA\nA\n");
+        Path looping = directory.resolve("looping.txt");
+        Files.writeString(looping, "test " + looping + "\n");
+
+        ReplayResult result = replayer.replay(script("test " + nested + "\ntest " + looping + "\ntest "
+                + directory.resolve("missing.txt") + "\n"), PLAYER_1_SIDE);
+
+        assertEquals(openingThreeOneFirstOptions(), result.getPositionId());
+        assertEquals(2, result.getMovesPlayed());
+        assertEquals(2, result.getInvalidLines());
+    }
+
+    @Test
+    void testParsedScriptReplaysTheSameGame() throws IOException {
+        CommandScript script = CommandScript.read(Path.of("src/test/resources/commands.txt"));
+
+        ReplayResult first = replayer.replay(script, PLAYER_1_SIDE);
+        ReplayResult second = replayer.replay(script, PLAYER_1_SIDE);
+
+        assertTrue(first.getMovesPlayed() > 0);
+        assertEquals(script.size(), first.getLinesReplayed());
+        assertEquals(first.toString(), second.toString());
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * This file is part of the Backgammon game project developed by the Dice Bros - Group 5 team.
+ *
+ * Team Information:
+ * Team Name: Dice Bros - Group 5
+ * Student Names:
+ *   - Harshal Desai
+ *   - Alparslan Balci
+ *   - Manish Tawade
+ * GitHub IDs:
+ *   - harshaldesai01
+ *   - Apistomeister
+ *   - Manish9881
+ */
+
+package service;
+
+import model.Play;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static util.CommonConstants.*;
+
+class SelfPlaySimulatorTest {
+
+    @Test
+    void testRandomMatchesAreAggregated() {
+        SelfPlaySimulator simulator = new SelfPlaySimulator(new RandomPolicy(), new RandomPolicy(), 3);
+
+        SimulationReport report = simulator.run(20);
+
+        assertEquals(20, report.getMatches());
+        assertEquals(60, report.getGames());
+        assertEquals(1.0, report.getGameWinRate(PLAYER_1_SIDE) + report.getGameWinRate(PLAYER_2_SIDE), 1e-9);
+        assertEquals(20, report.getScoreDistribution().values().stream().mapToInt(Integer::intValue).sum());
+        assertTrue(report.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    void testRefusedDoublesEndEveryGame() {
+        MovePolicy doubler = new MovePolicy() {
+            @Override
+            public Play choosePlay(GameEngine engine, List<Play> plays) {
+                return plays.get(0);
+            }
+
+            @Override
+            public boolean shouldDouble(GameEngine engine) {
+                return true;
+            }
+
+            @Override
+            public boolean shouldAccept(GameEngine engine) {
+                return false;
+            }
+        };
+        SelfPlaySimulator simulator = new SelfPlaySimulator(doubler, doubler, 5);
+
+        SimulationReport report = simulator.run(4);
+
+        assertEquals(20, report.getGames());
+        assertEquals(0, report.getGammonRate());
+        assertEquals(0, report.getBackgammonRate());
+    }
+
+    @Test
+    void testInvalidMatchLengthThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new SelfPlaySimulator(new RandomPolicy(), new RandomPolicy(), 0));
+    }
+}